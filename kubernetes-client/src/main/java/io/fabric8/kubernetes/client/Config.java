@@ -95,6 +95,8 @@ public class Config {
   public static final String KUBERNETES_WEBSOCKET_PING_INTERVAL_SYSTEM_PROPERTY = "kubernetes.websocket.ping.interval";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS ="kubernetes.max.concurrent.requests";
   public static final String KUBERNETES_MAX_CONCURRENT_REQUESTS_PER_HOST ="kubernetes.max.concurrent.requests.per.host";
+  public static final String KUBERNETES_QPS = "kubernetes.qps";
+  public static final String KUBERNETES_BURST = "kubernetes.burst";
 
   public static final String KUBERNETES_IMPERSONATE_USERNAME = "kubernetes.impersonate.username";
   public static final String KUBERNETES_IMPERSONATE_GROUP = "kubernetes.impersonate.group";
@@ -135,6 +137,7 @@ public class Config {
 
   public static final Integer DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
   public static final Integer DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 5;
+  public static final int DEFAULT_BURST = 10;
 
   public static final String HTTP_PROTOCOL_PREFIX = "http://";
   public static final String HTTPS_PROTOCOL_PREFIX = "https://";
@@ -197,6 +200,11 @@ public class Config {
    */
 
   private boolean http2Disable;
+  /**
+   * Requests per second the client is throttled to, no throttling if not positive.
+   */
+  private float qps;
+  private int burst = DEFAULT_BURST;
   private String httpProxy;
   private String httpsProxy;
   private String proxyUsername;
@@ -418,6 +426,12 @@ public class Config {
 
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
 
+    String configuredQps = Utils.getSystemPropertyOrEnvVar(KUBERNETES_QPS, String.valueOf(config.getQps()));
+    if (configuredQps != null) {
+      config.setQps(Float.parseFloat(configuredQps));
+    }
+    config.setBurst(Utils.getSystemPropertyOrEnvVar(KUBERNETES_BURST, config.getBurst()));
+
     config.setHttpProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpProxy()));
     config.setHttpsProxy(Utils.getSystemPropertyOrEnvVar(KUBERNETES_ALL_PROXY, config.getHttpsProxy()));
 
@@ -1062,6 +1076,24 @@ public class Config {
     this.http2Disable = http2Disable;
   }
 
+  @JsonProperty("qps")
+  public float getQps() {
+    return qps;
+  }
+
+  public void setQps(float qps) {
+    this.qps = qps;
+  }
+
+  @JsonProperty("burst")
+  public int getBurst() {
+    return burst;
+  }
+
+  public void setBurst(int burst) {
+    this.burst = burst;
+  }
+
   public void setHttpProxy(String httpProxy) {
     this.httpProxy= httpProxy;
   }
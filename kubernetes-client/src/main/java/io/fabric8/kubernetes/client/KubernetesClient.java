@@ -283,6 +283,9 @@ public interface KubernetesClient extends Client {
   /**
    * Load a Kubernetes resource object from file InputStream
    *
+   * The input stream is only read, and then closed, by the first operation, so it has to stay open until then.
+   * createOrReplace and serverSideApply read the resources one document at a time.
+   *
    * @param is File input stream object containing json/yaml content
    * @return deserialized object
    */
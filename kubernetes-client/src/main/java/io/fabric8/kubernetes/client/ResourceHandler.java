@@ -97,6 +97,18 @@ public interface ResourceHandler<T, V extends VisitableBuilder<T, V>> {
    */
   T replace(OkHttpClient client, Config config, String namespace, T item);
 
+  /**
+   * Apply the specified resource using server-side apply.
+   * @param client        An instance of the http client.
+   * @param config        The client config.
+   * @param namespace     The target namespace.
+   * @param item          The resource to apply.
+   * @param fieldManager  The name of the manager owning the applied fields.
+   * @param force         Whether conflicting fields owned by other managers should be taken over.
+   * @return              The applied resource.
+   */
+  T serverSideApply(OkHttpClient client, Config config, String namespace, T item, String fieldManager, boolean force);
+
   /**
    * Reload the specified resource (if exists).
    * @param client        An instance of the http client.
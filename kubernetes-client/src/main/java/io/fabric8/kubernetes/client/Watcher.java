@@ -26,8 +26,13 @@ public interface Watcher<T> {
    */
   void onClose(KubernetesClientException cause);
 
+  /**
+   * The type of a watch event. BOOKMARK events are only received when the watch was
+   * requested with allowWatchBookmarks, they carry no changes but an object whose
+   * resourceVersion is the point up to which the watch has been synced.
+   */
   enum Action {
-    ADDED, MODIFIED, DELETED, ERROR
+    ADDED, MODIFIED, DELETED, ERROR, BOOKMARK
   }
 
 }
@@ -16,7 +16,7 @@
 
 package io.fabric8.kubernetes.client.dsl;
 
-public interface Applicable<T> {
+public interface Applicable<T> extends ServerSideApplicable<T> {
 
     @Deprecated // Use createOrReplace instead
     T apply();
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCreateable<I, T, D> extends Createable<I, T, D> {
+
+  /**
+   * Non blocking variant of {@link Createable#create(Object)}.
+   * Implementations not overriding it run the blocking call on the {@link SharedScheduler#getBlockingExecutor()}.
+   *
+   * @param item item to create
+   * @return a future completed with the created item returned in kubernetes api response
+   */
+  default CompletableFuture<T> createAsync(I item) {
+    return CompletableFuture.supplyAsync(() -> create(item), SharedScheduler.getBlockingExecutor());
+  }
+
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncGettable<T> extends Gettable<T> {
+
+  /**
+   * Non blocking variant of {@link Gettable#get()}.
+   * Implementations not overriding it run the blocking call on the {@link SharedScheduler#getBlockingExecutor()}.
+   *
+   * @return a future completed with the item, or null if the item doesn't exist. Any other error completes
+   * the future exceptionally with a {@link io.fabric8.kubernetes.client.KubernetesClientException}.
+   */
+  default CompletableFuture<T> getAsync() {
+    return CompletableFuture.supplyAsync(this::get, SharedScheduler.getBlockingExecutor());
+  }
+
+}
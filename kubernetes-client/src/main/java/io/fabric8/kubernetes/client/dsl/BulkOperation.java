@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+
+public interface BulkOperation<T> {
+
+  /**
+   * Sets the maximum number of requests in flight at once. Defaults to the maximum number of concurrent requests
+   * per host of the client config.
+   *
+   * @param parallelism the maximum number of concurrent requests
+   * @return the bulk operation
+   */
+  BulkOperation<T> withParallelism(int parallelism);
+
+  /**
+   * Processes Namespaces and CustomResourceDefinitions in a phase of their own, before everything else is
+   * processed in parallel. Deletions use the reverse order.
+   *
+   * @return the bulk operation
+   */
+  BulkOperation<T> phased();
+
+  BulkOperation<T> withPropagationPolicy(DeletionPropagation propagationPolicy);
+
+  BulkResult<T> create();
+
+  BulkResult<T> replace();
+
+  BulkResult<T> createOrReplace();
+
+  BulkResult<T> serverSideApply(String fieldManager, boolean force);
+
+  /**
+   * Deletes all items. Items that don't exist are reported as failed with a 404 code.
+   *
+   * @return the outcome of every item
+   */
+  BulkResult<T> delete();
+}
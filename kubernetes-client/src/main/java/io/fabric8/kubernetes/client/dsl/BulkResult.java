@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+
+import java.util.List;
+
+public interface BulkResult<T> {
+
+  /**
+   * @return the items returned by the server for the successful operations, in the order they were requested
+   */
+  List<T> getSucceeded();
+
+  /**
+   * @return the requested item and the error of every failed operation, in the order they were requested
+   */
+  List<Failure<T>> getFailed();
+
+  boolean isSuccessful();
+
+  interface Failure<T> {
+
+    /**
+     * @return the item as it was requested
+     */
+    T getItem();
+
+    KubernetesClientException getException();
+  }
+}
@@ -18,7 +18,7 @@ package io.fabric8.kubernetes.client.dsl;
 
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 
-public interface EditReplacePatchDeletable<I, T, D, B> extends EditReplacePatchable<I, T, D>, Deletable<B>,
+public interface EditReplacePatchDeletable<I, T, D, B> extends EditReplacePatchable<I, T, D>, AsyncPatchable<I, T>, Deletable<B>, AsyncDeletable<B>,
                                                           GracePeriodConfigurable<Deletable<B>>
 
 {
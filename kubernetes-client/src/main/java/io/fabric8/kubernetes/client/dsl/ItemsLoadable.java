@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+public interface ItemsLoadable {
+
+  /**
+   * Lazily loads the resources of a stream of YAML documents (separated by ---) or of
+   * concatenated JSON documents. Each document is only read once the returned stream gets
+   * to it, so the resources can be handled one at a time without holding the whole input.
+   * Documents holding a list are flattened into their items.
+   *
+   * The resources are put in the namespace of the operation: one set with inNamespace replaces
+   * the namespace of every resource, the default one is only set on resources without a namespace.
+   *
+   * The returned stream should be closed, which closes the {@link InputStream}.
+   *
+   * @param is  The input stream.
+   * @return the de-serialized resources
+   */
+  Stream<HasMetadata> loadItems(InputStream is);
+}
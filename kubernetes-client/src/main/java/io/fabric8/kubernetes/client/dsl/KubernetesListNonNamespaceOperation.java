@@ -23,5 +23,6 @@ import java.io.InputStream;
 public interface KubernetesListNonNamespaceOperation extends
   Createable<KubernetesList, KubernetesList, DoneableKubernetesList>,
   MultiDeleteable<KubernetesList, Boolean>,
+  ItemsLoadable,
   Loadable<RecreateFromServerGettable<KubernetesList, KubernetesList, DoneableKubernetesList>> {
 }
@@ -21,5 +21,6 @@ import io.fabric8.kubernetes.api.model.KubernetesList;
 public interface KubernetesListOperation extends
   Namespaceable<KubernetesListNonNamespaceOperation>,
   MultiDeleteable<KubernetesList, Boolean>,
+  ItemsLoadable,
   Loadable<RecreateFromServerGettable<KubernetesList,KubernetesList,DoneableKubernetesList>> {
 }
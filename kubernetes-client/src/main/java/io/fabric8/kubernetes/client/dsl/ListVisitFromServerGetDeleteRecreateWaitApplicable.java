@@ -29,5 +29,6 @@ public interface ListVisitFromServerGetDeleteRecreateWaitApplicable<T, B> extend
   CascadingDeletable<B>,
   Waitable<List<T>, T>,
   GracePeriodConfigurable<CascadingDeletable<B>>,
-  PropagationPolicyConfigurable<CascadingDeletable<B>> {
+  PropagationPolicyConfigurable<CascadingDeletable<B>>,
+  Bulkable<T> {
 }
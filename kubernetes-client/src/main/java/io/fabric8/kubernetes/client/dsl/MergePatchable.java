@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+public interface MergePatchable<I, T> {
+
+  /**
+   * Sends the fields set on the item as a JSON merge patch, without reading the resource first.
+   * Empty lists are left out, so this can't be used to clear a list.
+   *
+   * @param item a partial object holding the fields to change
+   * @return the patched item as stored by the server
+   */
+  T mergePatch(I item);
+
+  /**
+   * Sends a JSON merge patch, without reading the resource first.
+   *
+   * @param patch the JSON merge patch
+   * @return the patched item as stored by the server
+   */
+  T mergePatch(String patch);
+}
@@ -30,6 +30,7 @@ public interface NonNamespaceOperation<T, L, D, R> extends
   Nameable<R>,
   FilterWatchListMultiDeletable<T, L, Boolean, Watch, Watcher<T>>,
   Createable<T, T, D>,
+  AsyncCreateable<T, T, D>,
   CreateOrReplaceable<T, T, D>,
   Loadable<R> {
 
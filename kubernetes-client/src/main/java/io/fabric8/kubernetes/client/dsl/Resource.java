@@ -28,5 +28,7 @@ public interface Resource<T, D> extends CreateOrReplaceable<T, T, D>,
   CreateFromServerGettable<T, T, D>,
   CascadingEditReplacePatchDeletable<T, T, D, Boolean>,
   VersionWatchable<Watch, Watcher<T>>,
-  Waitable<T, T>, Requirable<T>, Readiable {
+  Waitable<T, T>, Requirable<T>, Readiable,
+  AsyncGettable<T>, AsyncCreateable<T, T, D>, AsyncPatchable<T, T>, AsyncDeletable<Boolean>,
+  ServerSideApplicable<T>, MergePatchable<T, T> {
 }
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl;
+
+public interface ServerSideApplicable<T> {
+
+  /**
+   * Applies the item using server-side apply. Unlike createOrReplace this needs a single request whether or not
+   * the item already exists. Field conflicts with other managers are reported as errors. The managed fields and
+   * the resource version of the item aren't sent, so an item read from the server earlier can be applied as is.
+   *
+   * @param fieldManager the name of the manager that owns the applied fields
+   * @return the item as stored by the server
+   */
+  T serverSideApply(String fieldManager);
+
+  /**
+   * Applies the item using server-side apply.
+   *
+   * @param fieldManager the name of the manager that owns the applied fields
+   * @param force whether ownership of fields conflicting with other managers should be taken over
+   * @return the item as stored by the server
+   */
+  T serverSideApply(String fieldManager, boolean force);
+
+  /**
+   * Applies the item using server-side apply.
+   *
+   * @param fieldManager the name of the manager that owns the applied fields
+   * @param force whether ownership of fields conflicting with other managers should be taken over
+   * @param checkResourceVersion true to send the resource version of the item, so the apply fails with a conflict
+   *                             if the object has been changed since, false to apply regardless like the other variants
+   * @return the item as stored by the server
+   * @throws UnsupportedOperationException if the resource version check isn't supported, it's supported by the
+   *                                       operations on a single resource type
+   */
+  default T serverSideApply(String fieldManager, boolean force, boolean checkResourceVersion) {
+    if (checkResourceVersion) {
+      throw new UnsupportedOperationException("Server-side apply with a resource version check is not supported here");
+    }
+    return serverSideApply(fieldManager, force);
+  }
+}
@@ -17,7 +17,7 @@ package io.fabric8.kubernetes.client.dsl;
 
 import io.fabric8.kubernetes.client.GracePeriodConfigurable;
 
-public interface WatchListDeletable<T, L, B, H, W> extends VersionWatchable<H, W>, Listable<L>, Deletable<B>,
+public interface WatchListDeletable<T, L, B, H, W> extends VersionWatchable<H, W>, Listable<L>, AsyncListable<L>, Deletable<B>, AsyncDeletable<B>,
                                                            GracePeriodConfigurable<Deletable<B>>,
                                                            StatusUpdatable<T>
 {
@@ -15,6 +15,10 @@
  */
 package io.fabric8.kubernetes.client.dsl.base;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,8 +55,12 @@ import io.fabric8.kubernetes.client.dsl.base.WaitForConditionWatcher.WatchExcept
 import io.fabric8.kubernetes.client.dsl.internal.DefaultOperationInfo;
 import io.fabric8.kubernetes.client.dsl.internal.WatchConnectionManager;
 import io.fabric8.kubernetes.client.dsl.internal.WatchHTTPManager;
+import io.fabric8.kubernetes.client.informers.ReadCacheInterceptor;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.client.utils.WatcherToggle;
@@ -66,11 +74,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -142,13 +154,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
    */
   private L listRequestHelper(URL url) {
     try {
-      HttpUrl.Builder requestUrlBuilder = HttpUrl.get(url).newBuilder();
-
-      addQueryStringParam(requestUrlBuilder, "labelSelector", getLabelQueryParam());
-      addQueryStringParam(requestUrlBuilder, "fieldSelector", getFieldQueryParam());
-
-      Request.Builder requestBuilder = new Request.Builder().get().url(requestUrlBuilder.build());
-      L answer = handleResponse(requestBuilder, listType);
+      L answer = handleResponse(listRequest(url), listType);
       updateApiVersion(answer);
       return answer;
     } catch (InterruptedException ie) {
@@ -161,6 +167,26 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
  }
 
+  private CompletableFuture<L> listRequestHelperAsync(URL url) {
+    return handleResponseAsync(client, listRequest(url), listType, Collections.<String, String>emptyMap())
+      .handle((answer, throwable) -> {
+        if (throwable != null) {
+          throw KubernetesClientException.launderThrowable(forOperationType("list"), unwrap(throwable));
+        }
+        updateApiVersion(answer);
+        return answer;
+      });
+  }
+
+  private Request.Builder listRequest(URL url) {
+    HttpUrl.Builder requestUrlBuilder = HttpUrl.get(url).newBuilder();
+
+    addQueryStringParam(requestUrlBuilder, "labelSelector", getLabelQueryParam());
+    addQueryStringParam(requestUrlBuilder, "fieldSelector", getFieldQueryParam());
+
+    return new Request.Builder().get().url(requestUrlBuilder.build());
+  }
+
   protected URL fetchListUrl(URL url, ListOptions listOptions) throws MalformedURLException {
     return new URL(HttpClientUtils.appendListOptionParams(HttpUrl.get(url.toString()).newBuilder(), listOptions).toString());
   }
@@ -173,6 +199,16 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   @Override
   public T get() {
+    SharedIndexInformer<T> informer = item == null ? readCacheInformer() : null;
+    if (informer != null && Utils.isNotNullOrEmpty(name) && (namespace != null || !isResourceNamespaced())) {
+      T cached = informer.getIndexer().getByKey(isResourceNamespaced() ? namespace + "/" + name : name);
+      if (cached == null) {
+        return null;
+      }
+      T answer = copyOf(cached, type, "get");
+      updateApiVersion(answer);
+      return answer;
+    }
     try {
       final T answer = getMandatory();
       updateApiVersion(answer);
@@ -185,6 +221,26 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<T> getAsync() {
+    if (item != null && !reloadingFromServer) {
+      updateApiVersion(item);
+      return CompletableFuture.completedFuture(item);
+    }
+    try {
+      return handleGetAsync(getCompleteResourceUrl(), getType())
+        .handle((answer, throwable) -> {
+          if (throwable != null) {
+            return valueIfNotFound(throwable, null, "get");
+          }
+          updateApiVersion(answer);
+          return answer;
+        });
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("get"), e));
+    }
+  }
+
   @Override
   public T require() {
     try {
@@ -342,6 +398,18 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
 
   }
 
+  @Override
+  public CompletableFuture<T> createAsync(T resource) {
+    if (resource == null) {
+      return failedFuture(new IllegalArgumentException("Nothing to create."));
+    }
+    try {
+      return handleCreateAsync(resource);
+    } catch (IOException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("create"), e));
+    }
+  }
+
   @Override
   public D createNew() {
     final Function<T, T> visitor = resource -> {
@@ -411,6 +479,37 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public T serverSideApply(String fieldManager) {
+    return serverSideApply(fieldManager, false);
+  }
+
+  @Override
+  public T serverSideApply(String fieldManager, boolean force) {
+    return serverSideApply(fieldManager, force, false);
+  }
+
+  @Override
+  public T serverSideApply(String fieldManager, boolean force, boolean checkResourceVersion) {
+    T itemToApply = getItem();
+    if (itemToApply == null) {
+      throw new IllegalArgumentException("Nothing to apply.");
+    }
+
+    if (Utils.isNullOrEmpty(name)) {
+      return withName(itemToApply.getMetadata().getName()).serverSideApply(fieldManager, force, checkResourceVersion);
+    }
+
+    try {
+      return handleServerSideApply(itemToApply, fieldManager, force, checkResourceVersion, getType());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(forOperationType("apply"), ie);
+    } catch (ExecutionException | IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("apply"), e);
+    }
+  }
+
   @Override
   public FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> withLabels(Map<String, String> labels) {
     this.labels.putAll(labels);
@@ -631,6 +730,19 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   }
 
   public L list() {
+    SharedIndexInformer<T> informer = Utils.isNullOrEmpty(name) ? readCacheInformer() : null;
+    Predicate<T> filter = informer != null ? readCacheFilter() : null;
+    if (filter != null) {
+      List<T> cached = informer.getIndexer().byLabelSelector(isResourceNamespaced() ? namespace : null, readCacheLabelSelector());
+      ObjectMapper mapper = Serialization.jsonMapper();
+      ObjectNode list = mapper.createObjectNode();
+      list.putObject("metadata").put("resourceVersion", informer.lastSyncResourceVersion());
+      ArrayNode items = list.putArray("items");
+      cached.stream().filter(filter).forEach(resource -> items.add(mapper.<ObjectNode>valueToTree(resource)));
+      L answer = copyOf(list, listType, "list");
+      updateApiVersion(answer);
+      return answer;
+    }
     try {
       return listRequestHelper(getResourceUrl(namespace, name));
     } catch (IOException e) {
@@ -638,6 +750,115 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  /**
+   * @return the informer get and list of this operation are served from, null if they go to the API server,
+   * which they always do after {@link #fromServer()}
+   */
+  private SharedIndexInformer<T> readCacheInformer() {
+    if (Boolean.TRUE.equals(reloadingFromServer)) {
+      return null;
+    }
+    SharedInformerFactory informerFactory = ReadCacheInterceptor.getInformerFactory(client);
+    if (informerFactory == null || type == null) {
+      return null;
+    }
+    return informerFactory.getCoveringInformer(type, resourceT, isResourceNamespaced() ? namespace : null);
+  }
+
+  /**
+   * @return the label selectors of this operation as the equivalent {@link LabelSelector}
+   */
+  private LabelSelector readCacheLabelSelector() {
+    List<LabelSelectorRequirement> requirements = new ArrayList<>();
+    for (Map.Entry<String, String> label : labels.entrySet()) {
+      requirements.add(label.getValue() != null ?
+        new LabelSelectorRequirement(label.getKey(), "In", Collections.singletonList(label.getValue())) :
+        new LabelSelectorRequirement(label.getKey(), "Exists", null));
+    }
+    for (Map.Entry<String, String[]> label : labelsNot.entrySet()) {
+      requirements.add(Utils.isNotNull(label.getValue()) ?
+        new LabelSelectorRequirement(label.getKey(), "NotIn", Arrays.asList(label.getValue())) :
+        new LabelSelectorRequirement(label.getKey(), "DoesNotExist", null));
+    }
+    for (Map.Entry<String, String[]> label : labelsIn.entrySet()) {
+      requirements.add(new LabelSelectorRequirement(label.getKey(), "In", Arrays.asList(label.getValue())));
+    }
+    for (Map.Entry<String, String[]> label : labelsNotIn.entrySet()) {
+      requirements.add(new LabelSelectorRequirement(label.getKey(), "NotIn", Arrays.asList(label.getValue())));
+    }
+    LabelSelector labelSelector = new LabelSelector();
+    labelSelector.setMatchExpressions(requirements);
+    return labelSelector;
+  }
+
+  /**
+   * Evaluates the field selectors of this operation in memory, the only fields selected on can be the
+   * name and namespace of the resources.
+   *
+   * @return the filter matching the resources this operation selects, null if it selects on other fields
+   */
+  private Predicate<T> readCacheFilter() {
+    Predicate<T> filter = resource -> true;
+    for (Map.Entry<String, String> field : fields.entrySet()) {
+      Predicate<T> fieldFilter = fieldFilter(field.getKey(), field.getValue());
+      if (fieldFilter == null) {
+        return null;
+      }
+      filter = filter.and(fieldFilter);
+    }
+    for (Map.Entry<String, String[]> field : fieldsNot.entrySet()) {
+      for (String value : field.getValue()) {
+        Predicate<T> fieldFilter = fieldFilter(field.getKey(), value);
+        if (fieldFilter == null) {
+          return null;
+        }
+        filter = filter.and(fieldFilter.negate());
+      }
+    }
+    return filter;
+  }
+
+  private Predicate<T> fieldFilter(String field, String value) {
+    switch (field) {
+      case "metadata.name":
+        return resource -> value.equals(resource.getMetadata().getName());
+      case "metadata.namespace":
+        return resource -> value.equals(resource.getMetadata().getNamespace());
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Copies what's read from an informer cache, so callers can't modify the cached resources.
+   */
+  private <C> C copyOf(Object cached, Class<C> copyType, String operationType) {
+    ObjectMapper mapper = Serialization.jsonMapper();
+    try {
+      return mapper.treeToValue(mapper.valueToTree(cached), copyType);
+    } catch (JsonProcessingException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType(operationType), e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<L> listAsync() {
+    try {
+      return listRequestHelperAsync(getResourceUrl(namespace, name));
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("list"), e));
+    }
+  }
+
+  @Override
+  public CompletableFuture<L> listAsync(ListOptions listOptions) {
+    try {
+      return listRequestHelperAsync(fetchListUrl(getNamespacedUrl(), listOptions));
+    } catch (MalformedURLException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("list"), e));
+    }
+  }
+
   public L list(Integer limitVal, String continueVal) {
     return list(new ListOptionsBuilder().withLimit(Long.parseLong(limitVal.toString())).withContinue(continueVal).build());
   }
@@ -675,6 +896,35 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<Boolean> deleteAsync() {
+    if (item == null && (name == null || name.isEmpty())) {
+      return listAsync().thenCompose(list -> deleteAsync(list.getItems()));
+    }
+    try {
+      URL requestUrl;
+      if (item != null) {
+        updateApiVersion(item);
+        requestUrl = getResourceUrl(checkNamespace(item), checkName(item));
+      } else {
+        requestUrl = getResourceUrl();
+      }
+      return handleDeleteAsync(requestUrl, gracePeriodSeconds, propagationPolicy, cascading)
+        .handle((ignored, throwable) -> throwable != null ? valueIfNotFound(throwable, false, "delete") : true);
+    } catch (IOException e) {
+      return failedFuture(KubernetesClientException.launderThrowable(forOperationType("delete"), e));
+    }
+  }
+
+  private CompletableFuture<Boolean> deleteAsync(List<T> items) {
+    List<CompletableFuture<Boolean>> deletions = new ArrayList<>(items.size());
+    for (T toDelete : items) {
+      deletions.add(inNamespace(checkNamespace(toDelete)).withName(toDelete.getMetadata().getName()).deleteAsync());
+    }
+    return CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0]))
+      .thenApply(ignored -> deletions.stream().allMatch(CompletableFuture::join));
+  }
+
   @SafeVarargs
   @Override
   public final Boolean delete(T... items) {
@@ -703,7 +953,7 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
           if (e.getCode() != HttpURLConnection.HTTP_NOT_FOUND) {
             throw e;
           }
-          return false;
+          deleted = false;
         }
       }
     }
@@ -827,6 +1077,46 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     throw new KubernetesClientException("Cannot update read-only resources");
   }
 
+  @Override
+  public CompletableFuture<T> patchAsync(T item) {
+    return failedFuture(new KubernetesClientException("Cannot update read-only resources"));
+  }
+
+  @Override
+  public T mergePatch(T item) {
+    throw new KubernetesClientException("Cannot update read-only resources");
+  }
+
+  @Override
+  public T mergePatch(String patch) {
+    throw new KubernetesClientException("Cannot update read-only resources");
+  }
+
+  /**
+   * Maps the failure of an asynchronous request to the given value when the resource wasn't found,
+   * like the blocking operations do.
+   */
+  protected <V> V valueIfNotFound(Throwable throwable, V value, String operationType) {
+    Throwable cause = unwrap(throwable);
+    if (cause instanceof KubernetesClientException && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+      return value;
+    }
+    throw KubernetesClientException.launderThrowable(forOperationType(operationType), cause);
+  }
+
+  protected static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  protected static <V> CompletableFuture<V> failedFuture(Throwable throwable) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
   @Override
   public boolean isResourceNamespaced() {
     return Utils.isResourceNamespaced(getType());
@@ -841,6 +1131,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return handleCreate(resource, getType());
   }
 
+  protected CompletableFuture<T> handleCreateAsync(T resource) throws IOException {
+    updateApiVersion(resource);
+    return handleCreateAsync(resource, getType());
+  }
+
   protected T handleReplace(T updated) throws ExecutionException, InterruptedException, IOException {
     updateApiVersion(updated);
     return handleReplace(updated, getType());
@@ -851,6 +1146,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return handlePatch(current, updated, getType());
   }
 
+  protected CompletableFuture<T> handlePatchAsync(T current, T updated) throws IOException {
+    updateApiVersion(updated);
+    return handlePatchAsync(current, updated, getType());
+  }
+
   protected T handlePatch(T current, Map<String, Object> patchedUpdate) throws ExecutionException, InterruptedException, IOException {
     updateApiVersion(current);
     return handlePatch(current, patchedUpdate, getType());
@@ -16,9 +16,16 @@
 
 package io.fabric8.kubernetes.client.dsl.base;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.builder.Function;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.Doneable;
@@ -26,10 +33,18 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import static io.fabric8.kubernetes.client.internal.PatchUtils.applyMergePatch;
+import static io.fabric8.kubernetes.client.internal.PatchUtils.jsonMergePatch;
+import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
+import static io.fabric8.kubernetes.client.internal.PatchUtils.replacesArray;
 
 public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesResourceList<T>, D extends Doneable<T>, R extends Resource<T, D>>
   extends BaseOperation< T, L, D, R> {
   public static final DeletionPropagation DEFAULT_PROPAGATION_POLICY = DeletionPropagation.BACKGROUND;
+  private static final int MAX_PATCH_TRIES = 10;
 
   public HasMetadataOperation(OperationContext ctx) {
     super(ctx);
@@ -37,22 +52,103 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
 
   @Override
   public D edit() {
+    final T item = getMandatory();
     final Function<T, T> visitor = resource -> {
       try {
-        return patch(resource);
+        return handleEditPatch(item, resource);
       } catch (Exception e) {
         throw KubernetesClientException.launderThrowable(forOperationType("edit"), e);
       }
     };
 
     try {
-      T item = getMandatory();
       return getDoneableType().getDeclaredConstructor(getType(), Function.class).newInstance(item, visitor);
     } catch (InvocationTargetException | NoSuchMethodException | IllegalAccessException | InstantiationException e) {
       throw KubernetesClientException.launderThrowable(forOperationType("edit"), e);
     }
   }
 
+  /**
+   * Sends the changes of an edit as a JSON merge patch computed against the state the edit started from,
+   * so the resource isn't read a second time. Nothing is sent if nothing changed. Arrays can only be replaced as a
+   * whole by a merge patch, so a patch replacing one carries the resource version it was computed against. On a
+   * conflict the changes are applied to the latest state read from the server and sent again, as {@link #patch(HasMetadata)}
+   * does, so concurrent writes to other fields, such as the status, are kept.
+   *
+   * @param current the state the edit started from
+   * @param updated the edited state
+   * @return the patched item as stored by the server
+   * @throws ExecutionException Execution Exception
+   * @throws InterruptedException Interrupted Exception
+   * @throws IOException IOException
+   */
+  protected T handleEditPatch(T current, T updated) throws ExecutionException, InterruptedException, IOException {
+    updateApiVersion(updated);
+    JsonNode base = patchMapper().valueToTree(current);
+    ObjectNode changes = jsonMergePatch(base, patchMapper().valueToTree(updated));
+    if (changes.size() == 0) {
+      return updated;
+    }
+    URL resourceUrl = getResourceUrl(checkNamespace(updated), checkName(updated));
+    String resourceVersion = current.getMetadata() != null ? current.getMetadata().getResourceVersion() : null;
+    if (resourceVersion == null || !replacesArray(changes)) {
+      return handleMergePatch(resourceUrl, JSON_MAPPER.writeValueAsString(changes), getType());
+    }
+    ObjectNode patch = changes;
+    int maxTries = 10;
+    for (int i = 0; ; i++) {
+      ObjectNode pinned = patch.deepCopy();
+      JsonNode metadata = pinned.get("metadata");
+      ObjectNode metadataPatch = metadata != null && metadata.isObject() ? (ObjectNode) metadata : pinned.putObject("metadata");
+      metadataPatch.put("resourceVersion", resourceVersion);
+      try {
+        return handleMergePatch(resourceUrl, JSON_MAPPER.writeValueAsString(pinned), getType());
+      } catch (KubernetesClientException e) {
+        if (e.getCode() != HttpURLConnection.HTTP_CONFLICT || i >= maxTries - 1) {
+          throw e;
+        }
+      }
+      TimeUnit.SECONDS.sleep(1);
+      T latest = fromServer().get();
+      if (latest == null) {
+        return null;
+      }
+      JsonNode latestTree = patchMapper().valueToTree(latest);
+      patch = jsonMergePatch(latestTree, applyMergePatch(latestTree, changes));
+      if (patch.size() == 0) {
+        return latest;
+      }
+      resourceVersion = latest.getMetadata().getResourceVersion();
+    }
+  }
+
+  @Override
+  public T mergePatch(T item) {
+    try {
+      return handleMergePatch(getResourceUrl(checkNamespace(item), checkName(item)), patchMapper().writeValueAsString(item), getType());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(forOperationType("patch"), ie);
+    } catch (ExecutionException | IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("patch"), e);
+    }
+  }
+
+  @Override
+  public T mergePatch(String patch) {
+    if (Utils.isNullOrEmpty(getName())) {
+      throw new KubernetesClientException("Name not specified. But operation requires name.");
+    }
+    try {
+      return handleMergePatch(getResourceUrl(), patch, getType());
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw KubernetesClientException.launderThrowable(forOperationType("patch"), ie);
+    } catch (ExecutionException | IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("patch"), e);
+    }
+  }
+
   @Override
   public T replace(T item) {
     String fixedResourceVersion = getResourceVersion();
@@ -153,4 +249,48 @@ public class HasMetadataOperation<T extends HasMetadata, L extends KubernetesRes
     }
     throw KubernetesClientException.launderThrowable(forOperationType("patch"), caught);
   }
+
+  @Override
+  public CompletableFuture<T> patchAsync(T item) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    patchAsync(item, result, 0);
+    return result;
+  }
+
+  private void patchAsync(T item, CompletableFuture<T> result, int tries) {
+    patchOnceAsync(item).whenComplete((patched, throwable) -> {
+      if (throwable == null) {
+        result.complete(patched);
+        return;
+      }
+      Throwable cause = unwrap(throwable);
+      // Only retry if there's a conflict - this is normally to do with resource version & server updates.
+      if (cause instanceof KubernetesClientException && ((KubernetesClientException) cause).getCode() == HttpURLConnection.HTTP_CONFLICT
+        && tries < MAX_PATCH_TRIES - 1 && !result.isDone()) {
+        SharedScheduler.getScheduler().schedule(() -> patchAsync(item, result, tries + 1), 1, TimeUnit.SECONDS);
+      } else {
+        result.completeExceptionally(cause);
+      }
+    });
+  }
+
+  private CompletableFuture<T> patchOnceAsync(T item) {
+    return newInstance(context.withReloadingFromServer(true)).getAsync().thenCompose(got -> {
+      if (got == null) {
+        return CompletableFuture.completedFuture(null);
+      }
+      String resourceVersion = got.getMetadata() != null ? got.getMetadata().getResourceVersion() : null;
+      try {
+        // the doneable works on a copy, the item handed in is left untouched
+        final Function<T, T> visitor = resource -> {
+          resource.getMetadata().setResourceVersion(resourceVersion);
+          return resource;
+        };
+        T updated = getDoneableType().getDeclaredConstructor(getType(), Function.class).newInstance(item, visitor).done();
+        return handlePatchAsync(got, updated);
+      } catch (Exception e) {
+        return failedFuture(KubernetesClientException.launderThrowable(forOperationType("patch"), e));
+      }
+    });
+  }
 }
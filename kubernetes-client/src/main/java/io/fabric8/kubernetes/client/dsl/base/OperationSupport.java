@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.DeleteOptions;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -34,6 +35,9 @@ import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.zjsonpatch.JsonDiff;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -47,6 +51,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
@@ -56,6 +61,8 @@ public class OperationSupport {
   public static final MediaType JSON = MediaType.parse("application/json");
   public static final MediaType JSON_PATCH = MediaType.parse("application/json-patch+json");
   public static final MediaType STRATEGIC_MERGE_JSON_PATCH = MediaType.parse("application/strategic-merge-patch+json");
+  public static final MediaType JSON_MERGE_PATCH = MediaType.parse("application/merge-patch+json");
+  public static final MediaType APPLY_PATCH_YAML = MediaType.parse("application/apply-patch+yaml");
   protected static final ObjectMapper JSON_MAPPER = Serialization.jsonMapper();
   protected static final ObjectMapper YAML_MAPPER = Serialization.yamlMapper();
   private static final String CLIENT_STATUS_FLAG = "CLIENT_STATUS_FLAG";
@@ -212,6 +219,24 @@ public class OperationSupport {
   }
 
   protected void handleDelete(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy, boolean cascading) throws ExecutionException, InterruptedException, IOException {
+    handleResponse(deleteRequest(requestUrl, gracePeriodSeconds, propagationPolicy, cascading), null, Collections.<String, String>emptyMap());
+  }
+
+  /**
+   * Asynchronous variant of {@link #handleDelete(URL, long, DeletionPropagation, boolean)}.
+   *
+   * @param requestUrl URL of the resource to delete
+   * @param gracePeriodSeconds grace period, ignored if negative
+   * @param propagationPolicy propagation policy, may be null
+   * @param cascading whether dependents are deleted when no propagation policy is given
+   * @return a future completed once the server accepted the deletion
+   * @throws IOException IOException
+   */
+  protected CompletableFuture<Void> handleDeleteAsync(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy, boolean cascading) throws IOException {
+    return handleResponseAsync(client, deleteRequest(requestUrl, gracePeriodSeconds, propagationPolicy, cascading), Void.class, Collections.<String, String>emptyMap());
+  }
+
+  private Request.Builder deleteRequest(URL requestUrl, long gracePeriodSeconds, DeletionPropagation propagationPolicy, boolean cascading) throws JsonProcessingException {
     RequestBody requestBody = null;
     DeleteOptions deleteOptions = new DeleteOptions();
     if (gracePeriodSeconds >= 0) {
@@ -227,8 +252,7 @@ public class OperationSupport {
     }
     requestBody = RequestBody.create(JSON, JSON_MAPPER.writeValueAsString(deleteOptions));
 
-    Request.Builder requestBuilder = new Request.Builder().delete(requestBody).url(requestUrl);
-    handleResponse(requestBuilder, null, Collections.<String, String>emptyMap());
+    return new Request.Builder().delete(requestBody).url(requestUrl);
   }
 
 
@@ -247,9 +271,27 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T, I> T handleCreate(I resource, Class<T> outputType) throws ExecutionException, InterruptedException, KubernetesClientException, IOException {
+    return handleResponse(createRequest(resource), outputType, Collections.<String, String>emptyMap());
+  }
+
+  /**
+   * Asynchronous variant of {@link #handleCreate(Object, Class)}.
+   *
+   * @param resource resource provided
+   * @param outputType resource type you want as output
+   * @param <T> template argument for output type
+   * @param <I> template argument for resource
+   *
+   * @return a future completed with the de-serialized version of the apiserver response
+   * @throws IOException IOException
+   */
+  protected <T, I> CompletableFuture<T> handleCreateAsync(I resource, Class<T> outputType) throws IOException {
+    return handleResponseAsync(client, createRequest(resource), outputType, Collections.<String, String>emptyMap());
+  }
+
+  private <I> Request.Builder createRequest(I resource) throws IOException {
     RequestBody body = RequestBody.create(JSON, JSON_MAPPER.writeValueAsString(resource));
-    Request.Builder requestBuilder = new Request.Builder().post(body).url(getNamespacedUrl(checkNamespace(resource)));
-    return handleResponse(requestBuilder, outputType, Collections.<String, String>emptyMap());
+    return new Request.Builder().post(body).url(getNamespacedUrl(checkNamespace(resource)));
   }
 
 
@@ -311,10 +353,28 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handlePatch(T current, T updated, Class<T> type) throws ExecutionException, InterruptedException, KubernetesClientException, IOException {
+    return handleResponse(patchRequest(current, updated), type, Collections.<String, String>emptyMap());
+  }
+
+  /**
+   * Asynchronous variant of {@link #handlePatch(Object, Object, Class)}.
+   *
+   * @param current current object
+   * @param updated updated object
+   * @param type type of object
+   * @param <T> template argument provided
+   *
+   * @return a future completed with the de-serialized version of the api server response
+   * @throws IOException IOException
+   */
+  protected <T> CompletableFuture<T> handlePatchAsync(T current, T updated, Class<T> type) throws IOException {
+    return handleResponseAsync(client, patchRequest(current, updated), type, Collections.<String, String>emptyMap());
+  }
+
+  private <T> Request.Builder patchRequest(T current, T updated) throws IOException {
     JsonNode diff = JsonDiff.asJson(patchMapper().valueToTree(current), patchMapper().valueToTree(updated));
     RequestBody body = RequestBody.create(JSON_PATCH, JSON_MAPPER.writeValueAsString(diff));
-    Request.Builder requestBuilder = new Request.Builder().patch(body).url(getResourceUrl(checkNamespace(updated), checkName(updated)));
-    return handleResponse(requestBuilder, type, Collections.<String, String>emptyMap());
+    return new Request.Builder().patch(body).url(getResourceUrl(checkNamespace(updated), checkName(updated)));
   }
 
   /**
@@ -337,6 +397,66 @@ public class OperationSupport {
     return handleResponse(requestBuilder, type, Collections.<String, String>emptyMap());
   }
 
+  /**
+   * Send a JSON merge patch and handle the response.
+   *
+   * @param resourceUrl URL of the resource to patch
+   * @param patch the JSON merge patch
+   * @param type type of object
+   * @param <T> template argument provided
+   *
+   * @return returns de-serialized version of api server response
+   * @throws ExecutionException Execution Exception
+   * @throws InterruptedException Interrupted Exception
+   * @throws KubernetesClientException KubernetesClientException
+   * @throws IOException IOException
+   */
+  protected <T> T handleMergePatch(URL resourceUrl, String patch, Class<T> type) throws ExecutionException, InterruptedException, KubernetesClientException, IOException {
+    RequestBody body = RequestBody.create(JSON_MERGE_PATCH, patch);
+    Request.Builder requestBuilder = new Request.Builder().patch(body).url(resourceUrl);
+    return handleResponse(requestBuilder, type, Collections.<String, String>emptyMap());
+  }
+
+  /**
+   * Send a server-side apply patch and handle the response. The item is sent as JSON, which is valid YAML,
+   * without its managed fields, which can't be applied, and by default without its resource version.
+   *
+   * @param item desired state of the object
+   * @param fieldManager name of the manager owning the applied fields
+   * @param force whether conflicting fields owned by other managers should be taken over
+   * @param checkResourceVersion whether the resource version of the item is sent, failing the apply on a conflict
+   * @param type type of object
+   * @param <T> template argument provided
+   *
+   * @return returns de-serialized version of api server response
+   * @throws ExecutionException Execution Exception
+   * @throws InterruptedException Interrupted Exception
+   * @throws KubernetesClientException KubernetesClientException
+   * @throws IOException IOException
+   */
+  protected <T> T handleServerSideApply(T item, String fieldManager, boolean force, boolean checkResourceVersion, Class<T> type) throws ExecutionException, InterruptedException, KubernetesClientException, IOException {
+    if (Utils.isNullOrEmpty(fieldManager)) {
+      throw new IllegalArgumentException("A field manager is required for server-side apply.");
+    }
+    // works on a tree of the item, the item handed in is left untouched
+    JsonNode tree = JSON_MAPPER.valueToTree(item);
+    JsonNode metadata = tree.get("metadata");
+    if (metadata instanceof ObjectNode) {
+      ((ObjectNode) metadata).remove("managedFields");
+      if (!checkResourceVersion) {
+        ((ObjectNode) metadata).remove("resourceVersion");
+      }
+    }
+    RequestBody body = RequestBody.create(APPLY_PATCH_YAML, JSON_MAPPER.writeValueAsString(tree));
+    HttpUrl.Builder requestUrlBuilder = HttpUrl.get(getResourceUrl(checkNamespace(item), checkName(item))).newBuilder()
+      .addQueryParameter("fieldManager", fieldManager);
+    if (force) {
+      requestUrlBuilder.addQueryParameter("force", "true");
+    }
+    Request.Builder requestBuilder = new Request.Builder().patch(body).url(requestUrlBuilder.build());
+    return handleResponse(requestBuilder, type, Collections.<String, String>emptyMap());
+  }
+
   /**
    * Replace Scale of specified Kubernetes Resource
    *
@@ -416,6 +536,20 @@ public class OperationSupport {
     return handleResponse(requestBuilder, type, parameters);
   }
 
+  /**
+   * Asynchronous variant of {@link #handleGet(URL, Class)}.
+   *
+   * @param resourceUrl resource URL to be processed
+   * @param type type of resource
+   * @param <T> template argument provided
+   *
+   * @return a future completed with the deserialized api server response of provided type
+   */
+  protected <T> CompletableFuture<T> handleGetAsync(URL resourceUrl, Class<T> type) {
+    Request.Builder requestBuilder = new Request.Builder().get().url(resourceUrl);
+    return handleResponseAsync(client, requestBuilder, type, Collections.<String, String>emptyMap());
+  }
+
   /**
    * Send an http request and handle the response.
    *
@@ -488,9 +622,59 @@ public class OperationSupport {
     VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
     Request request = requestBuilder.build();
     Response response = client.newCall(request).execute();
+    return readResponse(request, response, type, parameters);
+  }
+
+  /**
+   * Send an http request without blocking the calling thread. The request is enqueued on the dispatcher
+   * of the OkHttp client, so the number of requests actually in flight is bounded by the configured
+   * max concurrent requests (per host).
+   *
+   * The response is de-serialized on the OkHttp callback thread, which is also the thread dependent
+   * stages of the returned future run on unless an executor is given to them: these should not block.
+   * Cancelling the returned future cancels the underlying call.
+   *
+   * @param client               OkHttp client provided
+   * @param requestBuilder       Request builder
+   * @param type                 Type of object provided, null if the response body is to be ignored
+   * @param parameters           A hashmap containing parameters
+   * @param <T>                  Template argument provided
+   *
+   * @return                      a future completed with the de-serialized api server response, or exceptionally
+   *                              with a {@link KubernetesClientException}
+   */
+  protected <T> CompletableFuture<T> handleResponseAsync(OkHttpClient client, Request.Builder requestBuilder, Class<T> type, Map<String, String> parameters) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    Request request = requestBuilder.build();
+    Call call = client.newCall(request);
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.whenComplete((result, throwable) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        future.completeExceptionally(requestException(request, e));
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        try {
+          future.complete(readResponse(request, response, type, parameters));
+        } catch (Exception e) {
+          future.completeExceptionally(e);
+        }
+      }
+    });
+    return future;
+  }
+
+  private <T> T readResponse(Request request, Response response, Class<T> type, Map<String, String> parameters) {
     try (ResponseBody body = response.body()) {
       assertResponseCode(request, response);
-      if (type != null) {
+      if (type != null && type != Void.class) {
         try (InputStream bodyInputStream = body.byteStream()) {
           return Serialization.unmarshal(bodyInputStream, type, parameters);
         }
@@ -499,7 +683,7 @@ public class OperationSupport {
       }
     } catch (Exception e) {
       if (e instanceof KubernetesClientException) {
-        throw e;
+        throw (KubernetesClientException) e;
       }
       throw requestException(request, e);
     } finally {
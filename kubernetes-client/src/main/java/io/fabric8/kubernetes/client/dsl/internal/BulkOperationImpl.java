@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.builder.VisitableBuilder;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.Handlers;
+import io.fabric8.kubernetes.client.HasMetadataVisitiableBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.ResourceHandler;
+import io.fabric8.kubernetes.client.dsl.BulkOperation;
+import io.fabric8.kubernetes.client.dsl.BulkResult;
+import io.fabric8.kubernetes.client.dsl.BulkResult.Failure;
+import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.fabric8.kubernetes.client.utils.RateLimitInterceptor;
+import io.fabric8.kubernetes.client.utils.RateLimiter.Lane;
+import okhttp3.OkHttpClient;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+public class BulkOperationImpl implements BulkOperation<HasMetadata> {
+
+  private static final Set<String> FIRST_PHASE_KINDS = new HashSet<>(Arrays.asList("Namespace", "CustomResourceDefinition"));
+
+  private final OkHttpClient client;
+  private final OkHttpClient bulkClient;
+  private final Config config;
+  private final List<HasMetadata> items;
+  private final int parallelism;
+  private final boolean phased;
+  private final DeletionPropagation propagationPolicy;
+
+  public BulkOperationImpl(OkHttpClient client, Config config, List<HasMetadata> items, DeletionPropagation propagationPolicy) {
+    this(client, config, items, config.getMaxConcurrentRequestsPerHost(), false, propagationPolicy);
+  }
+
+  public BulkOperationImpl(OkHttpClient client, Config config, List<HasMetadata> items, int parallelism, boolean phased, DeletionPropagation propagationPolicy) {
+    this.client = client;
+    this.bulkClient = RateLimitInterceptor.inLane(client, Lane.BULK);
+    this.config = config;
+    this.items = items;
+    this.parallelism = parallelism;
+    this.phased = phased;
+    this.propagationPolicy = propagationPolicy;
+  }
+
+  @Override
+  public BulkOperation<HasMetadata> withParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1, got: " + parallelism);
+    }
+    return new BulkOperationImpl(client, config, items, parallelism, phased, propagationPolicy);
+  }
+
+  @Override
+  public BulkOperation<HasMetadata> phased() {
+    return new BulkOperationImpl(client, config, items, parallelism, true, propagationPolicy);
+  }
+
+  @Override
+  public BulkOperation<HasMetadata> withPropagationPolicy(DeletionPropagation propagationPolicy) {
+    return new BulkOperationImpl(client, config, items, parallelism, phased, propagationPolicy);
+  }
+
+  @Override
+  public BulkResult<HasMetadata> create() {
+    return run(false, (h, meta) -> h.create(bulkClient, config, meta.getMetadata().getNamespace(), withoutResourceVersion(h, meta)));
+  }
+
+  @Override
+  public BulkResult<HasMetadata> replace() {
+    return run(false, (h, meta) -> h.replace(bulkClient, config, meta.getMetadata().getNamespace(), meta));
+  }
+
+  @Override
+  public BulkResult<HasMetadata> createOrReplace() {
+    return run(false, (h, meta) -> {
+      try {
+        return h.create(bulkClient, config, meta.getMetadata().getNamespace(), withoutResourceVersion(h, meta));
+      } catch (KubernetesClientException exception) {
+        if (exception.getCode() != HttpURLConnection.HTTP_CONFLICT) {
+          throw exception;
+        }
+        return h.replace(bulkClient, config, meta.getMetadata().getNamespace(), meta);
+      }
+    });
+  }
+
+  @Override
+  public BulkResult<HasMetadata> serverSideApply(String fieldManager, boolean force) {
+    return run(false, (h, meta) -> h.serverSideApply(bulkClient, config, meta.getMetadata().getNamespace(), meta, fieldManager, force));
+  }
+
+  @Override
+  public BulkResult<HasMetadata> delete() {
+    return run(true, (h, meta) -> {
+      if (!Boolean.TRUE.equals(h.delete(bulkClient, config, meta.getMetadata().getNamespace(), propagationPolicy, meta))) {
+        throw new KubernetesClientException("Not found: " + meta.getKind() + " " + meta.getMetadata().getName(), HttpURLConnection.HTTP_NOT_FOUND, null);
+      }
+      return meta;
+    });
+  }
+
+  /**
+   * Copies the item before clearing its resource version, the items of the caller are left untouched
+   */
+  private static HasMetadata withoutResourceVersion(ResourceHandler<HasMetadata, ? extends VisitableBuilder> h, HasMetadata meta) {
+    HasMetadata copy = (HasMetadata) h.edit(meta).build();
+    KubernetesResourceUtil.setResourceVersion(copy, null);
+    return copy;
+  }
+
+  private BulkResult<HasMetadata> run(boolean reversePhases, BiFunction<ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder>, HasMetadata, HasMetadata> operation) {
+    if (items.isEmpty()) {
+      return new BulkResultImpl(Collections.<HasMetadata>emptyList(), Collections.<Failure<HasMetadata>>emptyList());
+    }
+
+    List<List<Integer>> phases = phases(reversePhases);
+    HasMetadata[] succeeded = new HasMetadata[items.size()];
+    KubernetesClientException[] failed = new KubernetesClientException[items.size()];
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, items.size())));
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      for (List<Integer> phase : phases) {
+        // Items of a phase are only submitted once all items of the previous phase completed
+        futures.clear();
+        for (final Integer index : phase) {
+          final HasMetadata meta = items.get(index);
+          futures.add(executor.submit(() -> {
+            try {
+              ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = Handlers.get(meta.getKind(), meta.getApiVersion());
+              if (h == null) {
+                throw new KubernetesClientException("No handler found for object:" + meta);
+              }
+              succeeded[index] = operation.apply(h, meta);
+            } catch (KubernetesClientException e) {
+              failed[index] = e;
+            } catch (RuntimeException e) {
+              failed[index] = new KubernetesClientException(e.getMessage(), e);
+            }
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw KubernetesClientException.launderThrowable(e);
+    } catch (ExecutionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+
+    List<HasMetadata> results = new ArrayList<>();
+    List<Failure<HasMetadata>> errors = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (failed[i] != null) {
+        errors.add(new FailureImpl(items.get(i), failed[i]));
+      } else if (succeeded[i] != null) {
+        results.add(succeeded[i]);
+      }
+    }
+    return new BulkResultImpl(results, errors);
+  }
+
+  private List<List<Integer>> phases(boolean reversePhases) {
+    List<Integer> first = new ArrayList<>();
+    List<Integer> rest = new ArrayList<>();
+    for (int i = 0; i < items.size(); i++) {
+      if (phased && FIRST_PHASE_KINDS.contains(items.get(i).getKind())) {
+        first.add(i);
+      } else {
+        rest.add(i);
+      }
+    }
+    List<List<Integer>> phases = new ArrayList<>();
+    for (List<Integer> phase : reversePhases ? Arrays.asList(rest, first) : Arrays.asList(first, rest)) {
+      if (!phase.isEmpty()) {
+        phases.add(phase);
+      }
+    }
+    return phases;
+  }
+
+  private static class BulkResultImpl implements BulkResult<HasMetadata> {
+
+    private final List<HasMetadata> succeeded;
+    private final List<Failure<HasMetadata>> failed;
+
+    private BulkResultImpl(List<HasMetadata> succeeded, List<Failure<HasMetadata>> failed) {
+      this.succeeded = Collections.unmodifiableList(succeeded);
+      this.failed = Collections.unmodifiableList(failed);
+    }
+
+    @Override
+    public List<HasMetadata> getSucceeded() {
+      return succeeded;
+    }
+
+    @Override
+    public List<Failure<HasMetadata>> getFailed() {
+      return failed;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+      return failed.isEmpty();
+    }
+  }
+
+  private static class FailureImpl implements Failure<HasMetadata> {
+
+    private final HasMetadata item;
+    private final KubernetesClientException exception;
+
+    private FailureImpl(HasMetadata item, KubernetesClientException exception) {
+      this.item = item;
+      this.exception = exception;
+    }
+
+    @Override
+    public HasMetadata getItem() {
+      return item;
+    }
+
+    @Override
+    public KubernetesClientException getException() {
+      return exception;
+    }
+  }
+}
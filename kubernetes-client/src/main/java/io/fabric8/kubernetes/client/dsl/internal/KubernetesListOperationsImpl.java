@@ -24,6 +24,8 @@ import io.fabric8.kubernetes.api.builder.VisitableBuilder;
 import io.fabric8.kubernetes.api.model.DoneableKubernetesList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.Handlers;
 import io.fabric8.kubernetes.client.HasMetadataVisitiableBuilder;
@@ -34,6 +36,8 @@ import io.fabric8.kubernetes.client.dsl.Createable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.RecreateFromServerGettable;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -43,6 +47,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class KubernetesListOperationsImpl
   extends OperationSupport
@@ -54,21 +60,31 @@ public class KubernetesListOperationsImpl
   private final KubernetesList item;
   private final Boolean fromServer;
   private final Boolean deletingExisting;
+  private final boolean explicitNamespace;
 
   public KubernetesListOperationsImpl(OkHttpClient client, Config config, String namespace) {
     this(client, config, namespace, null, null, false, false, null, null);
   }
 
+  private KubernetesListOperationsImpl(OkHttpClient client, Config config, String namespace, boolean explicitNamespace) {
+    this(client, config, namespace, null, null, false, false, null, null, explicitNamespace);
+  }
+
   public KubernetesListOperationsImpl(OkHttpClient client, Config config, String namespace, String name, DeletionPropagation propagationPolicy, Boolean fromServer, Boolean deletingExisting, KubernetesList item, String resourceVersion) {
+    this(client, config, namespace, name, propagationPolicy, fromServer, deletingExisting, item, resourceVersion, false);
+  }
+
+  private KubernetesListOperationsImpl(OkHttpClient client, Config config, String namespace, String name, DeletionPropagation propagationPolicy, Boolean fromServer, Boolean deletingExisting, KubernetesList item, String resourceVersion, boolean explicitNamespace) {
     super(client, config, namespace, propagationPolicy);
     this.fromServer = fromServer;
     this.deletingExisting = deletingExisting;
     this.item = item;
+    this.explicitNamespace = explicitNamespace;
   }
 
   @Override
   public KubernetesListNonNamespaceOperation inNamespace(String namespace) {
-    return new KubernetesListOperationsImpl(client, config, namespace);
+    return new KubernetesListOperationsImpl(client, config, namespace, true);
   }
 
   @Override
@@ -127,7 +143,33 @@ public class KubernetesListOperationsImpl
 
   @Override
   public RecreateFromServerGettable<KubernetesList, KubernetesList, DoneableKubernetesList> load(InputStream is) {
-    return new KubernetesListOperationsImpl(client, config, namespace, null, DeletionPropagation.BACKGROUND, fromServer, deletingExisting, unmarshal(is, KubernetesList.class), null);
+    // lists and any number of documents are read one resource at a time
+    try (Stream<HasMetadata> items = Serialization.unmarshalItems(is, null)) {
+      KubernetesList list = new KubernetesListBuilder().withItems(items.collect(Collectors.toList())).build();
+      return new KubernetesListOperationsImpl(client, config, namespace, null, DeletionPropagation.BACKGROUND, fromServer, deletingExisting, list, null);
+    }
+  }
+
+  @Override
+  public Stream<HasMetadata> loadItems(InputStream is) {
+    return Serialization.unmarshalItems(is, null).map(this::inOperationNamespace);
+  }
+
+  /**
+   * Puts the item in the namespace of the operation, an explicit one overrides the namespace of the item,
+   * the default one is only set on items without a namespace.
+   */
+  private HasMetadata inOperationNamespace(HasMetadata item) {
+    if (Utils.isNullOrEmpty(namespace)) {
+      return item;
+    }
+    if (item.getMetadata() == null) {
+      item.setMetadata(new ObjectMeta());
+    }
+    if (explicitNamespace || Utils.isNullOrEmpty(item.getMetadata().getNamespace())) {
+      item.getMetadata().setNamespace(namespace);
+    }
+    return item;
   }
 
   @Override
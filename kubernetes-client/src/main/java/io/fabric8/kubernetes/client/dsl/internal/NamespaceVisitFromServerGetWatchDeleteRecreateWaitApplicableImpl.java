@@ -160,6 +160,18 @@ public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableImpl ex
     }
   }
 
+  @Override
+  public HasMetadata serverSideApply(String fieldManager) {
+    return serverSideApply(fieldManager, false);
+  }
+
+  @Override
+  public HasMetadata serverSideApply(String fieldManager, boolean force) {
+    HasMetadata meta = acceptVisitors(asHasMetadata(item), visitors);
+    ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
+    return h.serverSideApply(client, config, meta.getMetadata().getNamespace(), meta, fieldManager, force);
+  }
+
   @Override
   public Waitable<HasMetadata, HasMetadata> createOrReplaceAnd() {
     return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, createOrReplace(), gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
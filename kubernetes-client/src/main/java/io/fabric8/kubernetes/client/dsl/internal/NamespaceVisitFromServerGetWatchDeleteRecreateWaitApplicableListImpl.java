@@ -62,6 +62,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl extends OperationSupport implements ParameterNamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata, Boolean>,
 Waitable<List<HasMetadata>, HasMetadata>, Readiable {
@@ -80,6 +82,12 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
     private final double watchRetryBackoffMultiplier;
   private final Object item;
     private final InputStream inputStream;
+    private final Map<String, String> parameters;
+    /**
+     * the resources read from the input stream, once an operation needed all of them at once
+     */
+    private List<HasMetadata> loadedItems;
+    private boolean inputStreamRead;
 
     private final long gracePeriodSeconds;
     private final DeletionPropagation propagationPolicy;
@@ -87,7 +95,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
   @Override
   public List<HasMetadata> waitUntilReady(final long amount, final TimeUnit timeUnit) throws InterruptedException {
-    List<HasMetadata> items = acceptVisitors(asHasMetadata(item, true), visitors);
+    List<HasMetadata> items = items();
     if (items.isEmpty()) {
       return Collections.emptyList();
     }
@@ -135,7 +143,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
   @Override
   public List<HasMetadata> waitUntilCondition(Predicate<HasMetadata> condition, long amount,
     TimeUnit timeUnit) throws InterruptedException {
-    List<HasMetadata> items = acceptVisitors(asHasMetadata(item, true), visitors);
+    List<HasMetadata> items = items();
     if (items.size() == 0) {
       return Collections.emptyList();
     }
@@ -236,15 +244,13 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
         this.watchRetryInitialBackoffMillis = watchRetryInitialBackoffMillis;
         this.watchRetryBackoffMultiplier = watchRetryBackoffMultiplier;
 
-      if (item != null) {
-          this.item = item;
-        } else if (inputStream != null) {
-          this.item = Serialization.unmarshal(inputStream, parameters);
-        } else {
+      if (item == null && inputStream == null) {
           throw new IllegalArgumentException("Need to either specify an Object or an InputStream.");
         }
-
+        // the input stream is only read by the first operation
+        this.item = item;
         this.inputStream = inputStream;
+        this.parameters = parameters;
         this.cascading = cascading;
         this.gracePeriodSeconds = gracePeriodSeconds;
         this.propagationPolicy = propagationPolicy;
@@ -259,36 +265,62 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
   @Override
   public List<HasMetadata> createOrReplace() {
     List<HasMetadata> result = new ArrayList<>();
-    for (HasMetadata meta : acceptVisitors(asHasMetadata(item, true), visitors)) {
-      ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
-      String namespaceToUse =  meta.getMetadata().getNamespace();
-
-      String resourceVersion = KubernetesResourceUtil.getResourceVersion(meta);
-      try {
-        // Create
-        KubernetesResourceUtil.setResourceVersion(meta, null);
-        result.add(h.create(client, config, namespaceToUse, meta));
-      } catch (KubernetesClientException exception) {
-        if (exception.getCode() != HttpURLConnection.HTTP_CONFLICT) {
-          throw exception;
-        }
+    try (Stream<HasMetadata> items = streamItems()) {
+      items.forEachOrdered(meta -> result.add(createOrReplace(meta)));
+    }
+    return result;
+  }
 
-        // Conflict; check deleteExisting flag otherwise replace
-        if (Boolean.TRUE.equals(deletingExisting)) {
-          Boolean deleted = h.delete(client, config, namespaceToUse, propagationPolicy, meta);
-          if (Boolean.FALSE.equals(deleted)) {
-            throw new KubernetesClientException("Failed to delete existing item:" + meta);
-          }
-          result.add(h.create(client, config, namespaceToUse, meta));
-        } else {
-          KubernetesResourceUtil.setResourceVersion(meta, resourceVersion);
-          result.add(h.replace(client, config, namespaceToUse, meta));
+  private HasMetadata createOrReplace(HasMetadata meta) {
+    ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
+    String namespaceToUse =  meta.getMetadata().getNamespace();
+
+    String resourceVersion = KubernetesResourceUtil.getResourceVersion(meta);
+    try {
+      // Create
+      KubernetesResourceUtil.setResourceVersion(meta, null);
+      return h.create(client, config, namespaceToUse, meta);
+    } catch (KubernetesClientException exception) {
+      if (exception.getCode() != HttpURLConnection.HTTP_CONFLICT) {
+        throw exception;
+      }
+
+      // Conflict; check deleteExisting flag otherwise replace
+      if (Boolean.TRUE.equals(deletingExisting)) {
+        Boolean deleted = h.delete(client, config, namespaceToUse, propagationPolicy, meta);
+        if (Boolean.FALSE.equals(deleted)) {
+          throw new KubernetesClientException("Failed to delete existing item:" + meta);
         }
+        return h.create(client, config, namespaceToUse, meta);
+      } else {
+        KubernetesResourceUtil.setResourceVersion(meta, resourceVersion);
+        return h.replace(client, config, namespaceToUse, meta);
       }
     }
+  }
+
+  @Override
+  public List<HasMetadata> serverSideApply(String fieldManager) {
+    return serverSideApply(fieldManager, false);
+  }
+
+  @Override
+  public List<HasMetadata> serverSideApply(String fieldManager, boolean force) {
+    List<HasMetadata> result = new ArrayList<>();
+    try (Stream<HasMetadata> items = streamItems()) {
+      items.forEachOrdered(meta -> {
+        ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
+        result.add(h.serverSideApply(client, config, meta.getMetadata().getNamespace(), meta, fieldManager, force));
+      });
+    }
     return result;
   }
 
+  @Override
+  public BulkOperation<HasMetadata> bulk() {
+    return new BulkOperationImpl(client, config, items(), propagationPolicy);
+  }
+
   @Override
   public Waitable<List<HasMetadata>, HasMetadata> createOrReplaceAnd() {
     return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, createOrReplace(), inputStream, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
@@ -297,14 +329,14 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
   @Override
     public Boolean delete() {
         //First pass check before deleting
-        for (HasMetadata meta : acceptVisitors(asHasMetadata(item, true), visitors)) {
+        for (HasMetadata meta : items()) {
             if (handlerOf(meta) == null) {
                 return false;
             }
         }
 
         //Second pass do delete
-        for (HasMetadata meta :  acceptVisitors(asHasMetadata(item, true), visitors)) {
+        for (HasMetadata meta :  items()) {
             ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> h = handlerOf(meta);
             if (!h.delete(client, config, meta.getMetadata().getNamespace(), propagationPolicy, meta)) {
                 return false;
@@ -317,7 +349,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
     public List<HasMetadata> get() {
         if (fromServer) {
             List<HasMetadata> result = new ArrayList<>();
-            for (HasMetadata meta : acceptVisitors(asHasMetadata(item, true), visitors)) {
+            for (HasMetadata meta : items()) {
                 ResourceHandler<HasMetadata, ? extends VisitableBuilder> h = handlerOf(meta);
                 HasMetadata reloaded = h.reload(client, config, meta.getMetadata().getNamespace(), meta);
                 if (reloaded != null) {
@@ -331,7 +363,7 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
             }
             return result;
         } else {
-            return acceptVisitors(asHasMetadata(item, true), visitors);
+            return items();
         }
     }
 
@@ -353,45 +385,87 @@ Waitable<List<HasMetadata>, HasMetadata>, Readiable {
 
     @Override
     public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata, Boolean> inNamespace(String explicitNamespace) {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, deletingExisting, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
     }
 
     @Override
     public Gettable<List<HasMetadata>> fromServer() {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, true, deletingExisting, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, true, deletingExisting, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
     }
 
     @Override
     public Applicable<List<HasMetadata>> deletingExisting() {
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
     }
 
     @Override
     public ListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata, Boolean> accept(Visitor visitor) {
         List<Visitor> newVisitors = new ArrayList<>(visitors);
         newVisitors.add(visitor);
-        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, newVisitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+        return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, newVisitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
     }
 
   @Override public CascadingDeletable<Boolean> withGracePeriod(long gracePeriodSeconds)
   {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
   }
 
   @Override public CascadingDeletable<Boolean> withPropagationPolicy(DeletionPropagation propagationPolicy)
   {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
   }
 
   @Override
   public Waitable<List<HasMetadata>, HasMetadata> withWaitRetryBackoff(long initialBackoff, TimeUnit backoffUnit, double backoffMultiplier) {
     long watchRetryInitialBackoffMillis = backoffUnit.toMillis(initialBackoff);
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, backoffMultiplier);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, backoffMultiplier);
   }
 
   @Override
   public Deletable<Boolean> cascading(boolean cascading) {
-    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, item, null, null, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+    return new NamespaceVisitFromServerGetWatchDeleteRecreateWaitApplicableListImpl(client, config, fallbackNamespace, explicitNamespace, fromServer, true, visitors, source(), inputStream, parameters, gracePeriodSeconds, propagationPolicy, cascading, watchRetryInitialBackoffMillis, watchRetryBackoffMultiplier);
+  }
+
+  /**
+   * @return the resources with the visitors applied, all of them are read from the input stream on the first call
+   */
+  private synchronized List<HasMetadata> items() {
+    if (item != null) {
+      return acceptVisitors(asHasMetadata(item, true), visitors);
+    }
+    if (loadedItems == null) {
+      try (Stream<HasMetadata> loaded = readInputStream()) {
+        loadedItems = loaded.collect(Collectors.toList());
+      }
+    }
+    return acceptVisitors(loadedItems, visitors);
+  }
+
+  /**
+   * Streams the resources with the visitors applied. Unless another operation has already read them, they are
+   * read from the input stream one document at a time, so a single pass over a large input doesn't hold all of them.
+   */
+  private synchronized Stream<HasMetadata> streamItems() {
+    if (item != null || loadedItems != null) {
+      return items().stream();
+    }
+    return readInputStream().flatMap(meta -> acceptVisitors(Collections.singletonList(meta), visitors).stream());
+  }
+
+  private Stream<HasMetadata> readInputStream() {
+    if (inputStreamRead) {
+      throw new IllegalStateException("The resources have already been read from the input stream");
+    }
+    inputStreamRead = true;
+    return Serialization.unmarshalDocuments(inputStream, parameters)
+      .flatMap(document -> asHasMetadata(document, true).stream());
+  }
+
+  /**
+   * @return what the resources of a copy of this operation are taken from, null if they are still to be read from the input stream
+   */
+  private synchronized Object source() {
+    return item != null ? item : loadedItems;
   }
 
   private static <T> List<HasMetadata> asHasMetadata(T item, Boolean enableProccessing) {
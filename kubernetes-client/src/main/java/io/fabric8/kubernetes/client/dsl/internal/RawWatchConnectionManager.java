@@ -22,6 +22,8 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
+import io.fabric8.kubernetes.client.utils.SerialExecutor;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -38,9 +40,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -66,8 +66,8 @@ public class RawWatchConnectionManager implements Watch {
   private int maxIntervalExponent;
   private final AtomicInteger currentReconnectAttempt = new AtomicInteger(0);
   private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
-  // single threaded serial executor
-  private final ScheduledExecutorService executor;
+  // serial executor on the shared scheduler
+  private final SerialExecutor executor;
   /** True if an onOpen callback was received on the first connect attempt, ie. the watch was successfully started. */
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final AtomicBoolean reconnectPending = new AtomicBoolean(false);
@@ -86,11 +86,7 @@ public class RawWatchConnectionManager implements Watch {
     this.reconnectInterval = reconnectInterval;
     this.resourceVersion = new AtomicReference<>(listOptions.getResourceVersion());
     this.maxIntervalExponent = maxIntervalExponent;
-    executor = Executors.newSingleThreadScheduledExecutor(r -> {
-      Thread ret = new Thread(r, "Executor for Watch " + System.identityHashCode(RawWatchConnectionManager.this));
-      ret.setDaemon(true);
-      return ret;
-    });
+    executor = SharedScheduler.newSerialExecutor();
 
     runWatch();
   }
@@ -220,7 +216,7 @@ public class RawWatchConnectionManager implements Watch {
     if(!executor.isShutdown()) {
       // make sure that whichever thread calls this method, the tasks are
       // performed serially in the executor
-      executor.submit(new RawWatchConnectionManager.NamedRunnable("scheduleReconnect") {
+      executor.execute(new RawWatchConnectionManager.NamedRunnable("scheduleReconnect") {
         @Override
         public void execute() {
           if (!reconnectPending.compareAndSet(false, true)) {
@@ -264,17 +260,7 @@ public class RawWatchConnectionManager implements Watch {
     logger.debug("Force closing the watch {}", this);
     closeEvent(null);
     closeWebSocket(webSocketRef.getAndSet(null));
-    if (!executor.isShutdown()) {
-      try {
-        executor.shutdown();
-        if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
-          logger.warn("Executor didn't terminate in time after shutdown in close(), killing it in: {}", this);
-          executor.shutdownNow();
-        }
-      } catch (Throwable t) {
-        throw KubernetesClientException.launderThrowable(t);
-      }
-    }
+    executor.shutdown();
   }
 
   private void closeEvent(KubernetesClientException cause) {
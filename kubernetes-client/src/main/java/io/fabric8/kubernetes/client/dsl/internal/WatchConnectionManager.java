@@ -27,6 +27,8 @@ import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.SerialExecutor;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.*;
 import okio.ByteString;
@@ -62,8 +64,8 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
   private final long websocketTimeout;
   private final AtomicInteger currentReconnectAttempt = new AtomicInteger(0);
   private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
-  // single threaded serial executor
-  private final ScheduledExecutorService executor;
+  // serial executor on the shared scheduler
+  private final SerialExecutor executor;
   /** True if an onOpen callback was received on the first connect attempt, ie. the watch was successfully started. */
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final AtomicBoolean reconnectPending = new AtomicBoolean(false);
@@ -94,11 +96,7 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
     requestUrl = baseOperation.getNamespacedUrl();
     //create after the call above where MalformedURLException can be raised
     //avoids having to call shutdown in case the exception is raised
-    executor = Executors.newSingleThreadScheduledExecutor(r -> {
-      Thread ret = new Thread(r, "Executor for Watch " + System.identityHashCode(WatchConnectionManager.this));
-      ret.setDaemon(true);
-      return ret;
-    });
+    executor = SharedScheduler.newSerialExecutor();
     runWatch();
   }
 
@@ -219,13 +217,24 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
 
       @Override
       public void onMessage(WebSocket webSocket, ByteString bytes) {
-        onMessage(webSocket, bytes.utf8());
+        try {
+          onWatchEvent(readWatchEvent(bytes));
+        } catch (IOException e) {
+          logger.error("Could not deserialize watch event: {}", bytes.utf8(), e);
+        }
       }
 
       @Override
       public void onMessage(WebSocket webSocket, String message) {
         try {
-          WatchEvent event = readWatchEvent(message);
+          onWatchEvent(readWatchEvent(message));
+        } catch (IOException e) {
+          logger.error("Could not deserialize watch event: {}", message, e);
+        }
+      }
+
+      private void onWatchEvent(WatchEvent event) {
+        try {
           Object object = event.getObject();
           if (object instanceof HasMetadata) {
             @SuppressWarnings("unchecked")
@@ -263,10 +272,8 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
             watcher.eventReceived(Action.ERROR, null);
             logger.error("Error received: {}", status.toString());
           } else {
-            logger.error("Unknown message received: {}", message);
+            logger.error("Unknown message received: {}", object);
           }
-        } catch (IOException e) {
-          logger.error("Could not deserialize watch event: {}", message, e);
         } catch (ClassCastException e) {
           logger.error("Received wrong type of object for watch", e);
         } catch (IllegalArgumentException e) {
@@ -302,7 +309,7 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
     if(!executor.isShutdown()) {
       // make sure that whichever thread calls this method, the tasks are
       // performed serially in the executor
-      executor.submit(new NamedRunnable("scheduleReconnect") {
+      executor.execute(new NamedRunnable("scheduleReconnect") {
         @Override
         public void execute() {
           if (!reconnectPending.compareAndSet(false, true)) {
@@ -346,17 +353,7 @@ public class WatchConnectionManager<T extends HasMetadata, L extends KubernetesR
     logger.debug("Force closing the watch {}", this);
     closeEvent(null);
     closeWebSocket(webSocketRef.getAndSet(null));
-    if (!executor.isShutdown()) {
-      try {
-        executor.shutdown();
-        if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
-          logger.warn("Executor didn't terminate in time after shutdown in close(), killing it in: {}", this);
-          executor.shutdownNow();
-        }
-      } catch (Throwable t) {
-        throw KubernetesClientException.launderThrowable(t);
-      }
-    }
+    executor.shutdown();
   }
 
   private void closeEvent(KubernetesClientException cause) {
@@ -16,6 +16,10 @@
 
 package io.fabric8.kubernetes.client.dsl.internal;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
@@ -30,13 +34,17 @@ import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
 import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.utils.HttpClientUtils;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.kubernetes.client.utils.SerialExecutor;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okio.BufferedSource;
+import okio.ByteString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -66,11 +74,7 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   private final AtomicInteger currentReconnectAttempt = new AtomicInteger(0);
   private OkHttpClient clonedClient;
 
-  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
-    Thread ret = new Thread(r, "Executor for Watch " + System.identityHashCode(WatchHTTPManager.this));
-    ret.setDaemon(true);
-    return ret;
-  });
+  private final SerialExecutor executor = SharedScheduler.newSerialExecutor();
 
   public WatchHTTPManager(final OkHttpClient client,
                           final BaseOperation<T, L, ?, ?> baseOperation,
@@ -174,7 +178,12 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
         try {
           BufferedSource source = response.body().source();
           while (!source.exhausted()) {
-            String message = source.readUtf8LineStrict();
+            long newline = source.indexOf((byte) '\n');
+            if (newline == -1) {
+              throw new EOFException("\\n not found: size=" + source.buffer().size());
+            }
+            ByteString message = source.readByteString(newline);
+            source.skip(1);
             onMessage(message);
           }
         } catch (Exception e) {
@@ -207,7 +216,7 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
     if(!executor.isShutdown()) {
       // make sure that whichever thread calls this method, the tasks are
       // performed serially in the executor.
-      executor.submit(() -> {
+      executor.execute(() -> {
         if (!reconnectPending.compareAndSet(false, true)) {
           logger.debug("Reconnect already scheduled");
           return;
@@ -239,6 +248,10 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   }
 
   public void onMessage(String messageSource) throws IOException {
+    onMessage(ByteString.encodeUtf8(messageSource));
+  }
+
+  public void onMessage(ByteString messageSource) throws IOException {
     try {
       WatchEvent event = readWatchEvent(messageSource);
       KubernetesResource object = event.getObject();
@@ -277,10 +290,10 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
         watcher.eventReceived(Action.ERROR, null);
         logger.error("Error received: {}", status.toString());
       } else {
-        logger.error("Unknown message received: {}", messageSource);
+        logger.error("Unknown message received: {}", messageSource.utf8());
       }
     } catch (IOException e) {
-      logger.error("Could not deserialize watch event: {}", messageSource, e);
+      logger.error("Could not deserialize watch event: {}", messageSource.utf8(), e);
     } catch (ClassCastException e) {
       logger.error("Received wrong type of object for watch", e);
     } catch (IllegalArgumentException e) {
@@ -289,21 +302,51 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   }
 
   protected static WatchEvent readWatchEvent(String messageSource) throws IOException {
-    WatchEvent event = Serialization.unmarshal(messageSource, WatchEvent.class);
-    KubernetesResource object = null;
-    if (event != null) {
-      object = event.getObject();;
+    JsonFactory factory = Serialization.jsonMapper().getFactory();
+    WatchEvent event = readWatchEvent(factory.createParser(messageSource));
+    if (event.getObject() == null) {
+      event.setObject(readResource(factory.createParser(messageSource)));
     }
-    // when watching API Groups we don't get a WatchEvent resource
-    // so the object will be null
-    // so lets try parse the message as a KubernetesResource
-    // as it will probably be a list of resources like a BuildList
-    if (object == null) {
-      object = Serialization.unmarshal(messageSource, KubernetesResource.class);
-      if (event == null) {
-        event = new WatchEvent(object, "MODIFIED");
-      } else {
-        event.setObject(object);
+    return event;
+  }
+
+  /**
+   * Decodes a watch event straight from the received bytes, without building an intermediate String.
+   *
+   * @param bytes the raw watch frame
+   * @return the decoded event, its type defaults to MODIFIED
+   * @throws IOException if the frame isn't valid JSON
+   */
+  protected static WatchEvent readWatchEvent(ByteString bytes) throws IOException {
+    JsonFactory factory = Serialization.jsonMapper().getFactory();
+    WatchEvent event = readWatchEvent(factory.createParser(new ByteBufferBackedInputStream(bytes.asByteBuffer())));
+    if (event.getObject() == null) {
+      event.setObject(readResource(factory.createParser(new ByteBufferBackedInputStream(bytes.asByteBuffer()))));
+    }
+    return event;
+  }
+
+  private static WatchEvent readWatchEvent(JsonParser parser) throws IOException {
+    WatchEvent event = new WatchEvent();
+    try (JsonParser p = parser) {
+      if (p.nextToken() == JsonToken.START_OBJECT) {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+          String field = p.getCurrentName();
+          JsonToken value = p.nextToken();
+          if ("object".equals(field) && value == JsonToken.START_OBJECT) {
+            event.setObject(Serialization.jsonMapper().readValue(p, KubernetesResource.class));
+          } else if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+            event.setType(p.getText());
+          } else if ("kind".equals(field) || "apiVersion".equals(field)) {
+            // when watching API Groups we don't get a WatchEvent resource
+            // but the resource itself, which is read again by the caller
+            event.setObject(null);
+            event.setType(null);
+            break;
+          } else {
+            p.skipChildren();
+          }
+        }
       }
     }
     if (event.getType() == null) {
@@ -312,6 +355,13 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
     return event;
   }
 
+  private static KubernetesResource readResource(JsonParser parser) throws IOException {
+    try (JsonParser p = parser) {
+      return Serialization.jsonMapper().readValue(p, KubernetesResource.class);
+    }
+  }
+
+
   private long nextReconnectInterval() {
     int exponentOfTwo = currentReconnectAttempt.getAndIncrement();
     if (exponentOfTwo > maxIntervalExponent)
@@ -325,16 +375,6 @@ public class WatchHTTPManager<T extends HasMetadata, L extends KubernetesResourc
   public void close() {
     logger.debug("Force closing the watch {}", this);
     forceClosed.set(true);
-    if (!executor.isShutdown()) {
-      try {
-        executor.shutdown();
-        if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
-          logger.warn("Executor didn't terminate in time after shutdown in close(), killing it in: {}", this);
-          executor.shutdownNow();
-        }
-      } catch (Throwable t) {
-        throw KubernetesClientException.launderThrowable(t);
-      }
-    }
+    executor.shutdown();
   }
 }
@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -123,6 +124,14 @@ public class DeploymentOperationsImpl extends RollableScalableResourceOperation<
     return super.patch(item);
   }
 
+  @Override
+  public CompletableFuture<Deployment> patchAsync(Deployment item) {
+    if (isCascading()) {
+      return cascading(false).patchAsync(item);
+    }
+    return super.patchAsync(item);
+  }
+
   @Override
   public DeploymentOperationsImpl rolling() {
     return new DeploymentOperationsImpl(((RollingOperationContext)context).withRolling(true));
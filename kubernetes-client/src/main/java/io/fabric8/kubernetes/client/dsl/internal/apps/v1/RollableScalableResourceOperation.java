@@ -25,6 +25,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.RollableScalableResource;
 import io.fabric8.kubernetes.client.dsl.base.HasMetadataOperation;
 import io.fabric8.kubernetes.client.dsl.internal.RollingOperationContext;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -180,4 +182,13 @@ public abstract class RollableScalableResourceOperation<T extends HasMetadata, L
     return getRollingUpdater(rollingTimeout, rollingTimeUnit).rollUpdate(getMandatory(), t);
   }
 
+  @Override
+  public CompletableFuture<T> patchAsync(T t) {
+    if (!rolling) {
+      return super.patchAsync(t);
+    }
+    // a rolling update waits for the pods, so it runs as a whole off the calling thread
+    return CompletableFuture.supplyAsync(() -> patch(t), SharedScheduler.getBlockingExecutor());
+  }
+
 }
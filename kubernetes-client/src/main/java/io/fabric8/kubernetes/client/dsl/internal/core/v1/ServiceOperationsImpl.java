@@ -29,9 +29,12 @@ import io.fabric8.kubernetes.client.utils.URLUtils;
 import okhttp3.OkHttpClient;
 
 
+import java.io.IOException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 public class ServiceOperationsImpl extends HasMetadataOperation<Service, ServiceList, DoneableService, ServiceResource<Service, DoneableService>> implements ServiceResource<Service, DoneableService> {
@@ -84,6 +87,24 @@ public class ServiceOperationsImpl extends HasMetadataOperation<Service, Service
       }
   }
 
+  @Override
+  protected CompletableFuture<Service> handlePatchAsync(Service current, Service updated) throws IOException {
+    return super.handlePatchAsync(current, new ServiceBuilder(updated)
+      .editSpec()
+      .withClusterIP(current.getSpec().getClusterIP())
+      .endSpec()
+      .build());
+  }
+
+  @Override
+  protected Service handleEditPatch(Service current, Service updated) throws ExecutionException, InterruptedException, IOException {
+    return super.handleEditPatch(current, new ServiceBuilder(updated)
+      .editSpec()
+      .withClusterIP(current.getSpec().getClusterIP())
+      .endSpec()
+      .build());
+  }
+
   @Override
   public Service waitUntilReady(long amount, TimeUnit timeUnit) throws InterruptedException {
     long started = System.nanoTime();
@@ -76,6 +76,21 @@ public class KubernetesListHandler implements ResourceHandler<KubernetesList, Ku
     return new KubernetesListBuilder(item).withItems(replacedItems).build();
   }
 
+  @Override
+  public KubernetesList serverSideApply(OkHttpClient client, Config config, String namespace, KubernetesList item, String fieldManager, boolean force) {
+    List<HasMetadata> appliedItems = new ArrayList<>();
+
+    for (HasMetadata metadata : item.getItems()) {
+      ResourceHandler<HasMetadata, HasMetadataVisitiableBuilder> handler = Handlers.get(metadata.getKind(), metadata.getApiVersion());
+      if (handler == null) {
+        LOGGER.warn("No handler found for:" + metadata.getKind() + ". Ignoring");
+      } else {
+        appliedItems.add(handler.serverSideApply(client, config, namespace, metadata, fieldManager, force));
+      }
+    }
+    return new KubernetesListBuilder(item).withItems(appliedItems).build();
+  }
+
   @Override
   public KubernetesList reload(OkHttpClient client, Config config, String namespace, KubernetesList item) {
     List<HasMetadata> replacedItems = new ArrayList<>();
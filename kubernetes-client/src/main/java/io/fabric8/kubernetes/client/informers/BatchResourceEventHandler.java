@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.client.informers.cache.ProcessorListener;
+
+import java.util.List;
+
+/**
+ * ResourceEventHandler which gets the queued notifications in batches
+ * instead of one at a time. The single event methods aren't called for a
+ * batch handler.
+ *
+ * @param <T> resource
+ */
+public interface BatchResourceEventHandler<T> extends ResourceEventHandler<T> {
+
+  /**
+   * Called with the notifications queued for this handler, oldest first.
+   * Use {@link ProcessorListener.Notification#handle(ResourceEventHandler)} to
+   * dispatch a notification to the single event methods.
+   *
+   * @param notifications queued notifications, never empty
+   */
+  void onBatch(List<ProcessorListener.Notification<T>> notifications);
+}
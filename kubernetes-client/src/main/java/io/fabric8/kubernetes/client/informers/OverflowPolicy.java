@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * What an event handler's notification queue does when it is full.
+ */
+public enum OverflowPolicy {
+  /**
+   * Block the informer until the handler has caught up.
+   */
+  BLOCK,
+  /**
+   * Merge the notification into one already queued for the same object,
+   * e.g. two updates become a single update from the first old object to the
+   * last new one. Blocks if there is nothing to merge with.
+   */
+  COALESCE,
+  /**
+   * Drop resync notifications, block for every other notification.
+   */
+  DROP_RESYNC
+}
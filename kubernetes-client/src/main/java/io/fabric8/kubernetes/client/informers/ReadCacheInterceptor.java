@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Marks a client whose reads are served from the informers of a {@link SharedInformerFactory} where they can be.
+ *
+ * The requests themselves are passed on unchanged, the operations of the client look the factory up through
+ * {@link #getInformerFactory(OkHttpClient)} before going to the API server.
+ */
+public class ReadCacheInterceptor implements Interceptor {
+
+  private final SharedInformerFactory informerFactory;
+
+  public ReadCacheInterceptor(SharedInformerFactory informerFactory) {
+    this.informerFactory = informerFactory;
+  }
+
+  /**
+   * @param client the client to look at
+   * @return the informer factory the reads of the given client are served from, null if they always go to the server
+   */
+  public static SharedInformerFactory getInformerFactory(OkHttpClient client) {
+    if (client == null) {
+      return null;
+    }
+    for (Interceptor interceptor : client.interceptors()) {
+      if (interceptor instanceof ReadCacheInterceptor) {
+        return ((ReadCacheInterceptor) interceptor).informerFactory;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    return chain.proceed(chain.request());
+  }
+}
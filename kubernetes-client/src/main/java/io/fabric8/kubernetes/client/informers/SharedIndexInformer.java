@@ -16,10 +16,13 @@
 package io.fabric8.kubernetes.client.informers;
 
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.ProcessorListener;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * SharedInxedInformer extends SharedInformer and provides indexer operability additionally.
@@ -33,6 +36,88 @@ public interface SharedIndexInformer<T> extends SharedInformer<T> {
    */
   void addIndexers(Map<String, Function<T, List<String>>> indexers);
 
+  /**
+   * Makes the informer retrieve the initial list, and any later re-list, in pages
+   * of at most listLimit items using the limit/continue list options. Every page is
+   * added to the informer's queue as soon as it arrives, which bounds the memory
+   * needed to sync with large collections. Has to be called before the informer is run.
+   *
+   * @param listLimit maximum number of items per page, null or 0 to list everything at once
+   */
+  void setListLimit(Long listLimit);
+
+  /**
+   * Makes the informer resync its handlers from the items of its local cache, as the go
+   * client does, instead of periodically re-listing all items from the API server. The
+   * items are then only listed again when the watch expires (410 Gone), otherwise the
+   * watch resumes from the last synced resource version. Has to be called before the
+   * informer is run.
+   *
+   * @param resyncFromCache true to resync from the cache and only re-list on expired watches
+   */
+  void setResyncFromCache(boolean resyncFromCache);
+
+  /**
+   * Makes the informer collapse consecutive updates of an object which arrive before
+   * it has been processed, so that handlers get a single update from the last state
+   * they have seen to the newest one. Useful for objects that change quickly, such as
+   * the status of pods during a rollout. Has to be called before the informer is run.
+   *
+   * @param compactUpdates true to collapse consecutive updates
+   */
+  void setCompactUpdates(boolean compactUpdates);
+
+  /**
+   * Replaces the store the informer caches its objects in, the {@link io.fabric8.kubernetes.client.informers.cache.Cache}
+   * by default, e.g. by a {@link io.fabric8.kubernetes.client.informers.cache.CompactCache} to trade CPU for memory.
+   * Indexers added so far are added to the new store. Has to be called before the informer is run.
+   *
+   * @param indexer the empty store to cache the objects in
+   */
+  void setIndexer(Indexer<T> indexer);
+
+  /**
+   * Sets a function applied to every object received from the API server before it is
+   * queued, so both the cache and the event handlers only ever get the transformed object.
+   * Used to drop what's never read, see {@link Transforms}, as the cache then holds less.
+   * The function may modify and return its argument, it must not return null. Has to be
+   * called before the informer is run.
+   *
+   * @param transform function returning the object to cache, null to cache objects as they are received
+   */
+  void setTransform(UnaryOperator<T> transform);
+
+  /**
+   * Makes the informer save its cache, along with the last synced resource version, to
+   * the file every periodMillis and when it's stopped. When the file exists on start, the
+   * cache is loaded from it and the watch resumes from its resource version, so a restarted
+   * process doesn't have to list every item again. Only that initial list is skipped: the
+   * items are still listed when that version has expired (410 Gone) or the file can't be read,
+   * and by the periodic re-lists, which start one resync period after the restore. Has to be
+   * called before the informer is run.
+   *
+   * @param file file to load the snapshot from and to save it to
+   * @param periodMillis period of the saves in milliseconds, 0 to only save when stopped
+   */
+  void setSnapshot(File file, long periodMillis);
+
+  /**
+   * Bounds the queue of pending notifications of every event handler. By default the
+   * queues are unbounded, so a slow handler during a large initial sync can make them
+   * grow without limit. Has to be called before the informer is run.
+   *
+   * @param queueCapacity maximum number of pending notifications per handler, 0 for no limit
+   * @param overflowPolicy what to do with a notification when a handler's queue is full
+   */
+  void setEventQueueLimit(int queueCapacity, OverflowPolicy overflowPolicy);
+
+  /**
+   * Returns the queue depth and handler latency of every event handler.
+   *
+   * @return metrics of each event handler, in the order they were added
+   */
+  List<ProcessorListener.Metrics> getEventHandlerMetrics();
+
   /**
    * returns the internal indexer store.
    *
@@ -18,23 +18,29 @@ package io.fabric8.kubernetes.client.informers;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.base.BaseOperation;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.PartialObjectMetadataInterceptor;
 import io.fabric8.kubernetes.client.utils.Utils;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
 import io.fabric8.kubernetes.model.annotation.ApiGroup;
 import io.fabric8.kubernetes.model.annotation.ApiVersion;
 import okhttp3.OkHttpClient;
 
-import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -48,9 +54,9 @@ import static io.fabric8.kubernetes.client.utils.Utils.getPluralFromKind;
  * which is ported from offical go client https://github.com/kubernetes/client-go/blob/master/informers/factory.go
  */
 public class SharedInformerFactory extends BaseOperation {
-  private Map<Type, SharedIndexInformer> informers;
+  private Map<Object, SharedIndexInformer> informers;
 
-  private Map<Type, Future> startedInformers;
+  private Map<Object, Future> startedInformers;
 
   private ExecutorService informerExecutor;
 
@@ -58,6 +64,8 @@ public class SharedInformerFactory extends BaseOperation {
 
   private ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners;
 
+  private final Map<Class<?>, ReadCache> readCaches = new ConcurrentHashMap<>();
+
   /**
    * Constructor with thread pool specified.
    *
@@ -141,11 +149,51 @@ public class SharedInformerFactory extends BaseOperation {
    */
   public synchronized <T extends HasMetadata, L extends KubernetesResourceList<T>> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass, Class<L> apiListTypeClass, OperationContext operationContext, long resyncPeriodInMillis) {
     ListerWatcher<T, L> listerWatcher = listerWatcherFor(apiTypeClass, apiListTypeClass);
-    SharedIndexInformer<T> informer = new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, this.context.withApiGroupName(Utils.getAnnotationValue(apiTypeClass, ApiGroup.class))
+    OperationContext informerContext = this.context.withApiGroupName(Utils.getAnnotationValue(apiTypeClass, ApiGroup.class))
       .withApiGroupVersion(Utils.getAnnotationValue(apiTypeClass, ApiVersion.class))
       .withPlural(getPluralFromKind(apiTypeClass.getSimpleName()))
-      .withOperationContext(operationContext), eventListeners);
+      .withOperationContext(operationContext);
+    DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(apiTypeClass, listerWatcher, resyncPeriodInMillis, informerContext, eventListeners);
     this.informers.put(apiTypeClass, informer);
+    this.readCaches.put(apiTypeClass, new ReadCache(apiTypeClass, informer, informerContext));
+    return informer;
+  }
+
+  /**
+   * Constructs and returns a shared index informer which only lists and watches the metadata of the given api type.
+   * The server is asked for PartialObjectMetadata, so neither the transfer nor the informer cache hold anything
+   * but the {@link io.fabric8.kubernetes.api.model.ObjectMeta} of each resource.
+   *
+   * @param apiTypeClass apiType class of the resources to inform about
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @return the shared index informer
+   */
+  public synchronized SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(Class<? extends HasMetadata> apiTypeClass, long resyncPeriodInMillis) {
+    return sharedIndexInformerForMetadata(apiTypeClass, context.withApiGroupName(Utils.getAnnotationValue(apiTypeClass, ApiGroup.class))
+      .withApiGroupVersion(Utils.getAnnotationValue(apiTypeClass, ApiVersion.class))
+      .withPlural(getPluralFromKind(apiTypeClass.getSimpleName())), resyncPeriodInMillis);
+  }
+
+  /**
+   * Constructs and returns a shared index informer which only lists and watches the metadata of custom resources.
+   *
+   * @param customResourceContext basic information about the Custom Resource Definition corresponding to that custom resource
+   * @param apiTypeClass apiType class of the custom resources, only used to tell whether they're namespaced
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @return the shared index informer
+   */
+  public synchronized SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(CustomResourceDefinitionContext customResourceContext, Class<? extends HasMetadata> apiTypeClass, long resyncPeriodInMillis) {
+    return sharedIndexInformerForMetadata(apiTypeClass, context.withApiGroupVersion(customResourceContext.getVersion())
+      .withApiGroupName(customResourceContext.getGroup())
+      .withPlural(customResourceContext.getPlural()), resyncPeriodInMillis);
+  }
+
+  private SharedIndexInformer<PartialObjectMetadata> sharedIndexInformerForMetadata(Class<? extends HasMetadata> apiTypeClass, OperationContext operationContext, long resyncPeriodInMillis) {
+    OkHttpClient metadataClient = client.newBuilder().addInterceptor(new PartialObjectMetadataInterceptor()).build();
+    SharedIndexInformer<PartialObjectMetadata> informer = new DefaultSharedIndexInformer<>(PartialObjectMetadata.class, metadataListerWatcherFor(apiTypeClass), resyncPeriodInMillis,
+      operationContext.withOkhttpClient(metadataClient), eventListeners);
+    // all metadata informers share the same api type, so they're told apart by the resource they're for
+    this.informers.put(new MetadataInformerKey(operationContext.getApiGroupName(), operationContext.getPlural()), informer);
     return informer;
   }
 
@@ -158,7 +206,7 @@ public class SharedInformerFactory extends BaseOperation {
         listBaseOperation.setType(apiTypeClass);
         listBaseOperation.setListType(apiListTypeClass);
 
-        return listBaseOperation.list();
+        return listBaseOperation.list(params);
       }
 
       @Override
@@ -173,7 +221,31 @@ public class SharedInformerFactory extends BaseOperation {
             (context.getApiGroupName().endsWith("/") ? context.getApiGroupVersion() : ("/" + context.getApiGroupVersion()));
           KubernetesDeserializer.registerCustomKind(apiGroupNameAndVersion, apiTypeClass.getSimpleName(), apiTypeClass);
         }
-        return watchBaseOperation.watch(params.getResourceVersion(), resourceWatcher);
+        return watchBaseOperation.watch(params, resourceWatcher);
+      }
+    };
+  }
+
+  private ListerWatcher<PartialObjectMetadata, PartialObjectMetadataList> metadataListerWatcherFor(Class<? extends HasMetadata> apiTypeClass) {
+
+    // the api type only decides on the urls, what's decoded are the PartialObjectMetadata types
+    return new ListerWatcher<PartialObjectMetadata, PartialObjectMetadataList>() {
+      @Override
+      public PartialObjectMetadataList list(ListOptions params, String namespace, OperationContext context) throws KubernetesClientException {
+        BaseOperation listBaseOperation = baseOperation.newInstance(context.withNamespace(namespace));
+        listBaseOperation.setType(apiTypeClass);
+        listBaseOperation.setListType(PartialObjectMetadataList.class);
+
+        return (PartialObjectMetadataList) listBaseOperation.list(params);
+      }
+
+      @Override
+      public Watch watch(ListOptions params, String namespace, OperationContext context, Watcher<PartialObjectMetadata> resourceWatcher) throws KubernetesClientException {
+        BaseOperation watchBaseOperation = baseOperation.newInstance(context);
+        watchBaseOperation.setType(apiTypeClass);
+        watchBaseOperation.setListType(PartialObjectMetadataList.class);
+
+        return watchBaseOperation.watch(params, resourceWatcher);
       }
     };
   }
@@ -190,6 +262,42 @@ public class SharedInformerFactory extends BaseOperation {
     return this.informers.get(apiTypeClass);
   }
 
+  /**
+   * Returns the informer whose cache holds every resource a read of the given api type could return, that is a
+   * running and synced informer for the same resource which watches all namespaces or the one read from, without
+   * label or field selectors of its own. Informers with a transform, see
+   * {@link SharedIndexInformer#setTransform(java.util.function.UnaryOperator)}, never cover a read: the resources
+   * they cache aren't the ones stored by the API server, and writing one of them back would drop what was stripped.
+   *
+   * @param apiTypeClass api type class of the resources read
+   * @param plural plural of the resources read
+   * @param namespace namespace read from, null for all namespaces
+   * @param <T> type of the resources
+   * @return the informer to serve the read from, null if the read has to go to the API server
+   */
+  public <T> SharedIndexInformer<T> getCoveringInformer(Class<T> apiTypeClass, String plural, String namespace) {
+    ReadCache readCache = readCaches.get(apiTypeClass);
+    if (readCache == null || !readCache.covers(plural, namespace) || !readCache.informer.isRunning()
+      || readCache.informer.isTransformed() || !readCache.informer.hasSynced()) {
+      return null;
+    }
+    return readCache.informer;
+  }
+
+  /**
+   * Creates a client whose get and list calls are served from the informers of this factory when one covers them,
+   * see {@link #getCoveringInformer(Class, String, String)}, and go to the API server otherwise. Anything else,
+   * writes and watches included, is passed on to the server as usual.
+   *
+   * Cached reads reflect the state last seen by the informer and return copies of the cached resources.
+   * The client shares its connections with the client this factory was created from, which is the one to close.
+   *
+   * @return the caching client
+   */
+  public NamespacedKubernetesClient cachedClient() {
+    return new DefaultKubernetesClient(client.newBuilder().addInterceptor(new ReadCacheInterceptor(this)).build(), config);
+  }
+
   /**
    * Starts all registered informers.
    */
@@ -225,6 +333,7 @@ public class SharedInformerFactory extends BaseOperation {
       (informerType, informer) -> {
         if (startedInformers.remove(informerType) != null) {
           informer.stop();
+          readCaches.remove(informerType);
         }
       });
     if (shutDownThreadPool) {
@@ -235,4 +344,52 @@ public class SharedInformerFactory extends BaseOperation {
   public void addSharedInformerEventListener(SharedInformerEventListener event) {
     this.eventListeners.add(event);
   }
+
+  private static final class ReadCache {
+    private final DefaultSharedIndexInformer informer;
+    private final String namespace;
+    private final String plural;
+    private final boolean selective;
+
+    private ReadCache(Class<?> apiTypeClass, DefaultSharedIndexInformer informer, OperationContext context) {
+      this.informer = informer;
+      // cluster scoped resources are informed about regardless of the namespace
+      this.namespace = Utils.isResourceNamespaced(apiTypeClass) ? context.getNamespace() : null;
+      this.plural = context.getPlural();
+      this.selective = !context.getLabels().isEmpty() || !context.getLabelsNot().isEmpty()
+        || !context.getLabelsIn().isEmpty() || !context.getLabelsNotIn().isEmpty()
+        || !context.getFields().isEmpty() || !context.getFieldsNot().isEmpty();
+    }
+
+    private boolean covers(String plural, String namespace) {
+      return !selective && Objects.equals(this.plural, plural) && (this.namespace == null || this.namespace.equals(namespace));
+    }
+  }
+
+  private static final class MetadataInformerKey {
+    private final String apiGroupName;
+    private final String plural;
+
+    private MetadataInformerKey(String apiGroupName, String plural) {
+      this.apiGroupName = apiGroupName;
+      this.plural = plural;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      MetadataInformerKey that = (MetadataInformerKey) o;
+      return Objects.equals(apiGroupName, that.apiGroupName) && Objects.equals(plural, that.plural);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(apiGroupName, plural);
+    }
+  }
 }
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.utils.StringInterner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Transforms for {@link SharedIndexInformer#setTransform(UnaryOperator)} which trim the
+ * objects of an informer before they're cached.
+ */
+public class Transforms {
+
+  public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+  private Transforms() {
+  }
+
+  /**
+   * @param <T> type of the objects
+   * @return a transform removing the managed fields from the metadata of the objects
+   */
+  public static <T extends HasMetadata> UnaryOperator<T> stripManagedFields() {
+    return obj -> {
+      ObjectMeta metadata = obj.getMetadata();
+      if (metadata != null) {
+        metadata.setManagedFields(null);
+      }
+      return obj;
+    };
+  }
+
+  /**
+   * @param <T> type of the objects
+   * @return a transform removing the last applied configuration annotation kubectl apply adds to the objects
+   */
+  public static <T extends HasMetadata> UnaryOperator<T> stripLastAppliedConfiguration() {
+    return obj -> {
+      ObjectMeta metadata = obj.getMetadata();
+      Map<String, String> annotations = metadata != null ? metadata.getAnnotations() : null;
+      if (annotations != null && annotations.remove(LAST_APPLIED_CONFIGURATION_ANNOTATION) != null && annotations.isEmpty()) {
+        metadata.setAnnotations(null);
+      }
+      return obj;
+    };
+  }
+
+  /**
+   * Returns a transform which replaces the strings the objects of a cache are most likely to share by their instance
+   * held by the given interner: in the metadata, the namespace, label keys and values, annotation keys, finalizers
+   * and the owner references, and in the containers of pods and of the pod templates of deployments, stateful sets,
+   * daemon sets and replica sets, their name, image, pull policy and termination message settings.
+   *
+   * @param interner the interner to canonicalize the strings with, it may be shared by several informers
+   * @param <T> type of the objects
+   * @return the interning transform
+   */
+  public static <T extends HasMetadata> UnaryOperator<T> internStrings(StringInterner interner) {
+    return obj -> {
+      intern(interner, obj.getMetadata());
+      if (obj instanceof Pod) {
+        intern(interner, ((Pod) obj).getSpec());
+      } else if (obj instanceof Deployment && ((Deployment) obj).getSpec() != null) {
+        intern(interner, ((Deployment) obj).getSpec().getTemplate());
+      } else if (obj instanceof StatefulSet && ((StatefulSet) obj).getSpec() != null) {
+        intern(interner, ((StatefulSet) obj).getSpec().getTemplate());
+      } else if (obj instanceof DaemonSet && ((DaemonSet) obj).getSpec() != null) {
+        intern(interner, ((DaemonSet) obj).getSpec().getTemplate());
+      } else if (obj instanceof ReplicaSet && ((ReplicaSet) obj).getSpec() != null) {
+        intern(interner, ((ReplicaSet) obj).getSpec().getTemplate());
+      }
+      return obj;
+    };
+  }
+
+  private static void intern(StringInterner interner, ObjectMeta metadata) {
+    if (metadata == null) {
+      return;
+    }
+    metadata.setNamespace(interner.intern(metadata.getNamespace()));
+    metadata.setGenerateName(interner.intern(metadata.getGenerateName()));
+    if (metadata.getLabels() != null) {
+      Map<String, String> labels = new LinkedHashMap<>(metadata.getLabels().size());
+      metadata.getLabels().forEach((key, value) -> labels.put(interner.intern(key), interner.intern(value)));
+      metadata.setLabels(labels);
+    }
+    if (metadata.getAnnotations() != null) {
+      // annotation values tend to be unique, only their keys repeat
+      Map<String, String> annotations = new LinkedHashMap<>(metadata.getAnnotations().size());
+      metadata.getAnnotations().forEach((key, value) -> annotations.put(interner.intern(key), value));
+      metadata.setAnnotations(annotations);
+    }
+    if (metadata.getFinalizers() != null) {
+      List<String> finalizers = new ArrayList<>(metadata.getFinalizers().size());
+      metadata.getFinalizers().forEach(finalizer -> finalizers.add(interner.intern(finalizer)));
+      metadata.setFinalizers(finalizers);
+    }
+    if (metadata.getOwnerReferences() != null) {
+      for (OwnerReference ownerReference : metadata.getOwnerReferences()) {
+        ownerReference.setApiVersion(interner.intern(ownerReference.getApiVersion()));
+        ownerReference.setKind(interner.intern(ownerReference.getKind()));
+        ownerReference.setName(interner.intern(ownerReference.getName()));
+        ownerReference.setUid(interner.intern(ownerReference.getUid()));
+      }
+    }
+  }
+
+  private static void intern(StringInterner interner, PodTemplateSpec template) {
+    if (template != null) {
+      intern(interner, template.getMetadata());
+      intern(interner, template.getSpec());
+    }
+  }
+
+  private static void intern(StringInterner interner, PodSpec spec) {
+    if (spec == null) {
+      return;
+    }
+    intern(interner, spec.getInitContainers());
+    intern(interner, spec.getContainers());
+  }
+
+  private static void intern(StringInterner interner, List<Container> containers) {
+    if (containers == null) {
+      return;
+    }
+    for (Container container : containers) {
+      container.setName(interner.intern(container.getName()));
+      container.setImage(interner.intern(container.getImage()));
+      container.setImagePullPolicy(interner.intern(container.getImagePullPolicy()));
+      container.setTerminationMessagePath(interner.intern(container.getTerminationMessagePath()));
+      container.setTerminationMessagePolicy(interner.intern(container.getTerminationMessagePolicy()));
+    }
+  }
+
+  /**
+   * @param transforms transforms to apply, in order
+   * @param <T> type of the objects
+   * @return a transform applying each of the given transforms in turn
+   */
+  @SafeVarargs
+  public static <T> UnaryOperator<T> allOf(UnaryOperator<T>... transforms) {
+    return obj -> {
+      T result = obj;
+      for (UnaryOperator<T> transform : transforms) {
+        result = transform.apply(result);
+      }
+      return result;
+    };
+  }
+}
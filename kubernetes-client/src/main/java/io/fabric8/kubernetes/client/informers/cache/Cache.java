@@ -15,22 +15,38 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.utils.ReflectUtils;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * It basically saves and indexes all the entries.
  *
+ * Reads never lock: items and indices are kept in concurrent maps and a
+ * {@link #replace(List, String)} swaps them all at once, so readers see either
+ * the old or the new content. Writers are serialized among themselves.
+ *
+ * Besides the named indices, the labels of the objects are kept in an inverted
+ * index, label key to label value to object keys, which answers
+ * {@link #byLabelSelector(String, LabelSelector)}.
+ *
  * @param <T> type for cache object
  */
 public class Cache<T> implements Indexer<T> {
@@ -41,13 +57,10 @@ public class Cache<T> implements Indexer<T> {
   public static final String NAMESPACE_INDEX = "namespace";
 
   // indexers stores index functions by their names
-  private Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
-  // items stores object instances
-  private Map<String, T> items = new HashMap<>();
-
-  // indices stores objects' key by their indices
-  private Map<String, Map<String, Set<String>>> indices = new HashMap<>();
+  // items and indices, replaced together by replace()
+  private volatile State<T> state = new State<>();
 
   public Cache() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::deletionHandlingMetaNamespaceKeyFunc);
@@ -56,7 +69,7 @@ public class Cache<T> implements Indexer<T> {
   public Cache(String indexName, Function<T, List<String>> indexFunc, Function<T, String> keyFunc) {
     this.indexers.put(indexName, indexFunc);
     this.keyFunc = keyFunc;
-    this.indices.put(indexName, new HashMap<>());
+    this.state.indices.put(indexName, new ConcurrentHashMap<>());
   }
 
   /**
@@ -67,9 +80,9 @@ public class Cache<T> implements Indexer<T> {
   @Override
   public synchronized void add(T obj) {
     String key = keyFunc.apply(obj);
-    T oldObj = this.items.get(key);
-    this.items.put(key, obj);
-    this.updateIndices(oldObj, obj, key);
+    IndexValues newValues = indexValuesOf(obj);
+    this.state.items.put(key, encode(obj));
+    this.updateIndices(this.state, this.state.indexValues.get(key), newValues, key);
   }
 
   /**
@@ -83,8 +96,8 @@ public class Cache<T> implements Indexer<T> {
   }
 
   @Override
-  public void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
-    if (!items.isEmpty()) {
+  public synchronized void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
+    if (!state.items.isEmpty()) {
       throw new IllegalStateException("Cannot add indexers to a Cache which is not empty");
     }
 
@@ -107,9 +120,9 @@ public class Cache<T> implements Indexer<T> {
   @Override
   public synchronized void update(T obj) {
     String key = keyFunc.apply(obj);
-    T oldObj = this.items.get(key);
-    this.items.put(key, obj);
-    this.updateIndices(oldObj, obj, key);
+    IndexValues newValues = indexValuesOf(obj);
+    this.state.items.put(key, encode(obj));
+    this.updateIndices(this.state, this.state.indexValues.get(key), newValues, key);
   }
 
   /**
@@ -120,10 +133,10 @@ public class Cache<T> implements Indexer<T> {
   @Override
   public synchronized void delete(T obj) {
     String key = keyFunc.apply(obj);
-    boolean exists = this.items.containsKey(key);
-    if (exists) {
-      this.deleteFromIndices(this.items.get(key), key);
-      this.items.remove(key);
+    IndexValues oldValues = this.state.indexValues.get(key);
+    if (oldValues != null) {
+      this.deleteFromIndices(this.state, oldValues, key);
+      this.state.items.remove(key);
     }
   }
 
@@ -135,18 +148,17 @@ public class Cache<T> implements Indexer<T> {
    */
   @Override
   public synchronized void replace(List<T> list, String resourceVersion) {
-    Map<String, T> newItems = new HashMap<>();
+    State<T> newState = new State<>();
+    for (String indexName : this.indexers.keySet()) {
+      newState.indices.put(indexName, new ConcurrentHashMap<>());
+    }
     for (T item : list) {
       String key = keyFunc.apply(item);
-      newItems.put(key, item);
-    }
-    this.items = newItems;
-
-    // rebuild any index
-    this.indices = new HashMap<>();
-    for (Map.Entry<String, T> itemEntry : items.entrySet()) {
-      this.updateIndices(null, itemEntry.getValue(), itemEntry.getKey());
+      IndexValues newValues = indexValuesOf(item);
+      newState.items.put(key, encode(item));
+      this.updateIndices(newState, newState.indexValues.get(key), newValues, key);
     }
+    this.state = newState;
   }
 
   /**
@@ -163,12 +175,13 @@ public class Cache<T> implements Indexer<T> {
    * @return the list of keys
    */
   @Override
-  public synchronized List<String> listKeys() {
-    List<String> keys = new ArrayList<>(this.items.size());
-    for (Map.Entry<String, T> entry : this.items.entrySet()) {
-      keys.add(entry.getKey());
-    }
-    return keys;
+  public List<String> listKeys() {
+    return new ArrayList<>(this.state.items.keySet());
+  }
+
+  @Override
+  public int size() {
+    return this.state.items.size();
   }
 
   /**
@@ -178,7 +191,7 @@ public class Cache<T> implements Indexer<T> {
    * @return the object
    */
   @Override
-  public synchronized T get(T obj) {
+  public T get(T obj) {
     String key = this.keyFunc.apply(obj);
     return this.getByKey(key);
   }
@@ -189,12 +202,17 @@ public class Cache<T> implements Indexer<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> list() {
-    List<T> itemList = new ArrayList<>(this.items.size());
-    for (Map.Entry<String, T> entry : this.items.entrySet()) {
-      itemList.add(entry.getValue());
-    }
-    return itemList;
+  public List<T> list() {
+    List result = new ArrayList<>(this.state.items.values());
+    result.replaceAll(this::decode);
+    return result;
+  }
+
+  /**
+   * @return the objects by key in the form they are kept in, see {@link #encode(Object)}
+   */
+  Map<String, Object> storedItems() {
+    return new HashMap<>(this.state.items);
   }
 
   /**
@@ -204,8 +222,8 @@ public class Cache<T> implements Indexer<T> {
    * @return the get by key
    */
   @Override
-  public synchronized T getByKey(String key) {
-      return this.items.get(key);
+  public T getByKey(String key) {
+    return decodeOrNull(this.state.items.get(key));
   }
 
   /**
@@ -216,31 +234,28 @@ public class Cache<T> implements Indexer<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> index(String indexName, Object obj) {
-    if (!this.indexers.containsKey(indexName)) {
+  public List<T> index(String indexName, Object obj) {
+    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
+    if (indexFunc == null) {
       throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    Function<T, List<String>> indexFunc = this.indexers.get(indexName);
     List<String> indexKeys = indexFunc.apply((T) obj);
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    if (index.isEmpty()) {
+    State<T> current = this.state;
+    Map<String, Set<String>> index = current.indices.get(indexName);
+    if (index == null || index.isEmpty()) {
       return new ArrayList<>();
     }
 
     Set<String> returnKeySet = new HashSet<>();
     for (String indexKey : indexKeys) {
-      Set<String> set = index.get(indexKey);
-      if (set.isEmpty()) {
+      Set<String> set = indexKey == null ? null : index.get(indexKey);
+      if (set == null || set.isEmpty()) {
         continue;
       }
       returnKeySet.addAll(set);
     }
 
-    List<T> items = new ArrayList<>(returnKeySet.size());
-    for (String absoluteKey : returnKeySet) {
-      items.add(this.items.get(absoluteKey));
-    }
-    return items;
+    return getAll(current, returnKeySet);
   }
 
   /**
@@ -251,17 +266,8 @@ public class Cache<T> implements Indexer<T> {
    * @return the list
    */
   @Override
-  public synchronized List<String> indexKeys(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
-    }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    List<String> keys = new ArrayList<>(set.size());
-    for (String key : set) {
-      keys.add(key);
-    }
-    return keys;
+  public List<String> indexKeys(String indexName, String indexKey) {
+    return new ArrayList<>(indexSet(this.state, indexName, indexKey));
   }
 
   /**
@@ -272,20 +278,139 @@ public class Cache<T> implements Indexer<T> {
    * @return the list
    */
   @Override
-  public synchronized List<T> byIndex(String indexName, String indexKey) {
-    if (!this.indexers.containsKey(indexName)) {
-      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
+  public List<T> byIndex(String indexName, String indexKey) {
+    State<T> current = this.state;
+    return getAll(current, indexSet(current, indexName, indexKey));
+  }
+
+  @Override
+  public void forEachInIndex(String indexName, String indexKey, Consumer<T> consumer) {
+    State<T> current = this.state;
+    for (String key : indexSet(current, indexName, indexKey)) {
+      T item = decodeOrNull(current.items.get(key));
+      if (item != null) {
+        consumer.accept(item);
+      }
     }
-    Map<String, Set<String>> index = this.indices.get(indexName);
-    Set<String> set = index.get(indexKey);
-    if (set == null) {
-      return Arrays.asList();
+  }
+
+  @Override
+  public Stream<T> streamByIndex(String indexName, String indexKey) {
+    State<T> current = this.state;
+    return indexSet(current, indexName, indexKey).stream().map(current.items::get).filter(Objects::nonNull).map(this::decode);
+  }
+
+  @Override
+  public int countByIndex(String indexName, String indexKey) {
+    return indexSet(this.state, indexName, indexKey).size();
+  }
+
+  @Override
+  public Stream<T> stream() {
+    return this.state.items.values().stream().map(this::decode);
+  }
+
+  /**
+   * Looks the objects up by the posting lists of the label index: the shortest list
+   * among the namespace and the In, Exists and matchLabels requirements is walked and
+   * each of its objects is checked against the whole selector, so a lookup costs about
+   * the size of the smallest matching list rather than the size of the cache.
+   * NotIn and DoesNotExist requirements are only checked, they can't narrow down the walk.
+   *
+   * @param namespace namespace of the objects, null for any namespace
+   * @param labelSelector selector on the labels of the objects, null to select all of them
+   * @return matched objects
+   */
+  @Override
+  public List<T> byLabelSelector(String namespace, LabelSelector labelSelector) {
+    State<T> current = this.state;
+    List<LabelSelectorRequirement> requirements = LabelSelectorMatcher.requirementsOf(labelSelector);
+
+    Collection<Set<String>> shortest = null;
+    int shortestSize = Integer.MAX_VALUE;
+    if (namespace != null && current.indices.containsKey(NAMESPACE_INDEX)) {
+      shortest = Collections.singletonList(indexSet(current, NAMESPACE_INDEX, namespace));
+      shortestSize = shortest.iterator().next().size();
+    }
+    for (LabelSelectorRequirement requirement : requirements) {
+      Collection<Set<String>> postings = postingsOf(current, requirement);
+      if (postings == null) {
+        continue;
+      }
+      int size = 0;
+      for (Set<String> posting : postings) {
+        size += posting.size();
+      }
+      if (size < shortestSize) {
+        shortest = postings;
+        shortestSize = size;
+      }
+    }
+
+    List<T> result = new ArrayList<>();
+    if (shortest == null) {
+      for (Object stored : current.items.values()) {
+        T item = decode(stored);
+        if (LabelSelectorMatcher.matches(item, namespace, requirements)) {
+          result.add(item);
+        }
+      }
+      return result;
+    }
+    for (Set<String> posting : shortest) {
+      for (String key : posting) {
+        T item = decodeOrNull(current.items.get(key));
+        // the key may have been removed concurrently
+        if (item != null && LabelSelectorMatcher.matches(item, namespace, requirements)) {
+          result.add(item);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the posting lists of the objects which may match the requirement, null if it can't narrow them down
+   */
+  private static Collection<Set<String>> postingsOf(State<?> current, LabelSelectorRequirement requirement) {
+    Map<String, Set<String>> values = current.labels.get(requirement.getKey());
+    switch (requirement.getOperator()) {
+      case "In":
+        if (values == null || requirement.getValues() == null) {
+          return Collections.emptyList();
+        }
+        List<Set<String>> postings = new ArrayList<>();
+        // a value listed twice must not walk its posting twice
+        for (String value : new LinkedHashSet<>(requirement.getValues())) {
+          Set<String> posting = values.get(value);
+          if (posting != null) {
+            postings.add(posting);
+          }
+        }
+        return postings;
+      case "Exists":
+        return values == null ? Collections.emptyList() : values.values();
+      default:
+        return null;
     }
-    List<T> items = new ArrayList<>(set.size());
-    for (String key : set) {
-      items.add(this.items.get(key));
+  }
+
+  /**
+   * @param labelKey key of a label
+   * @return the values of the label carried by the objects, as kept in the label index
+   */
+  Set<String> labelValues(String labelKey) {
+    Map<String, Set<String>> values = this.state.labels.get(labelKey);
+    return values == null ? Collections.emptySet() : Collections.unmodifiableSet(values.keySet());
+  }
+
+  private Set<String> indexSet(State<T> current, String indexName, String indexKey) {
+    if (!this.indexers.containsKey(indexName)) {
+      throw new IllegalArgumentException(String.format("index %s doesn't exist!", indexName));
     }
-    return items;
+    Map<String, Set<String>> index = current.indices.get(indexName);
+    Set<String> set = index == null || indexKey == null ? null : index.get(indexKey);
+    return set == null ? Collections.emptySet() : set;
   }
 
   @Override
@@ -302,25 +427,60 @@ public class Cache<T> implements Indexer<T> {
    * @param newObj new object
    * @param key the key
    */
-  public void updateIndices(T oldObj, T newObj, String key) {
-    if (oldObj != null) {
-      deleteFromIndices(oldObj, key);
-    }
+  public synchronized void updateIndices(T oldObj, T newObj, String key) {
+    updateIndices(this.state, oldObj == null ? null : indexValuesOf(oldObj), indexValuesOf(newObj), key);
+  }
 
+  private IndexValues indexValuesOf(T obj) {
+    Map<String, List<String>> values = new HashMap<>();
     for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexers.entrySet()) {
-      String indexName = indexEntry.getKey();
-      Function<T, List<String>> indexFunc = indexEntry.getValue();
-      List<String> indexValues = indexFunc.apply(newObj);
-      if (indexValues == null || indexValues.isEmpty()) {
-        continue;
+      List<String> indexValues = indexEntry.getValue().apply(obj);
+      if (indexValues != null && !indexValues.isEmpty()) {
+        values.put(indexEntry.getKey(), indexValues);
       }
+    }
+    return new IndexValues(LabelSelectorMatcher.labelsOf(obj), values);
+  }
 
-      Map<String, Set<String>> index = this.indices.computeIfAbsent(indexName, k -> new HashMap<>());
-      for (String indexValue : indexValues) {
-        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> new HashSet<>());
+  private void updateIndices(State<T> target, IndexValues oldValues, IndexValues newValues, String key) {
+    // the new entries are added before the stale ones are removed, so lock-free readers
+    // never miss an object which keeps an index value or label across an update
+    for (Map.Entry<String, String> label : newValues.labels.entrySet()) {
+      if (label.getValue() != null) {
+        target.labels.computeIfAbsent(label.getKey(), k -> new ConcurrentHashMap<>())
+          .computeIfAbsent(label.getValue(), k -> ConcurrentHashMap.newKeySet())
+          .add(key);
+      }
+    }
+    for (Map.Entry<String, List<String>> indexEntry : newValues.indices.entrySet()) {
+      Map<String, Set<String>> index = target.indices.computeIfAbsent(indexEntry.getKey(), k -> new ConcurrentHashMap<>());
+      for (String indexValue : indexEntry.getValue()) {
+        if (indexValue == null) {
+          // e.g. the namespace of a cluster scoped object
+          continue;
+        }
+        Set<String> indexSet = index.computeIfAbsent(indexValue, k -> ConcurrentHashMap.newKeySet());
         indexSet.add(key);
       }
     }
+    target.indexValues.put(key, newValues);
+
+    if (oldValues == null) {
+      return;
+    }
+    for (Map.Entry<String, String> label : oldValues.labels.entrySet()) {
+      if (label.getValue() != null && !label.getValue().equals(newValues.labels.get(label.getKey()))) {
+        removeFromLabels(target, label.getKey(), label.getValue(), key);
+      }
+    }
+    for (Map.Entry<String, List<String>> indexEntry : oldValues.indices.entrySet()) {
+      List<String> kept = newValues.indices.getOrDefault(indexEntry.getKey(), Collections.emptyList());
+      for (String indexValue : indexEntry.getValue()) {
+        if (indexValue != null && !kept.contains(indexValue)) {
+          removeFromIndex(target, indexEntry.getKey(), indexValue, key);
+        }
+      }
+    }
   }
 
   /**
@@ -328,38 +488,57 @@ public class Cache<T> implements Indexer<T> {
    *
    * It is intended to be called from a function that already has a lock on the cache.
    *
-   * @param oldObj the old object
+   * @param target the items and indices to update
+   * @param oldValues the index values and labels of the object
    * @param key the key
    */
-  private void deleteFromIndices(T oldObj, String key) {
-    for (Map.Entry<String, Function<T, List<String>>> indexEntry : this.indexers.entrySet()) {
-      Function<T, List<String>> indexFunc = indexEntry.getValue();
-      List<String> indexValues = indexFunc.apply(oldObj);
-      if (indexValues == null || indexValues.isEmpty()) {
-        continue;
+  private void deleteFromIndices(State<T> target, IndexValues oldValues, String key) {
+    for (Map.Entry<String, String> label : oldValues.labels.entrySet()) {
+      if (label.getValue() != null) {
+        removeFromLabels(target, label.getKey(), label.getValue(), key);
       }
-
-      Map<String, Set<String>> index = this.indices.get(indexEntry.getKey());
-      if (index == null) {
-        continue;
+    }
+    for (Map.Entry<String, List<String>> indexEntry : oldValues.indices.entrySet()) {
+      for (String indexValue : indexEntry.getValue()) {
+        if (indexValue != null) {
+          removeFromIndex(target, indexEntry.getKey(), indexValue, key);
+        }
       }
-      for (String indexValue : indexValues) {
-        Set<String> indexSet = index.get(indexValue);
-        if (indexSet != null) {
-          indexSet.remove(key);
+    }
+    target.indexValues.remove(key);
+  }
+
+  private static void removeFromLabels(State<?> target, String labelKey, String labelValue, String key) {
+    Map<String, Set<String>> values = target.labels.get(labelKey);
+    Set<String> labelSet = values == null ? null : values.get(labelValue);
+    if (labelSet != null) {
+      labelSet.remove(key);
+      // drop the postings of values and keys no object carries anymore, writers hold the lock
+      if (labelSet.isEmpty()) {
+        values.remove(labelValue);
+        if (values.isEmpty()) {
+          target.labels.remove(labelKey);
         }
       }
     }
   }
 
+  private static void removeFromIndex(State<?> target, String indexName, String indexValue, String key) {
+    Map<String, Set<String>> index = target.indices.get(indexName);
+    Set<String> indexSet = index == null ? null : index.get(indexValue);
+    if (indexSet != null) {
+      indexSet.remove(key);
+    }
+  }
+
   /**
    * Add index func.
    *
    * @param indexName the index name
    * @param indexFunc the index func
    */
-  public void addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    this.indices.put(indexName, new HashMap<>());
+  public synchronized void addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
+    this.state.indices.put(indexName, new ConcurrentHashMap<>());
     this.indexers.put(indexName, indexFunc);
   }
 
@@ -423,5 +602,70 @@ public class Cache<T> implements Indexer<T> {
       throw new RuntimeException(e);
     }
   }
-}
 
+  /**
+   * Turns an object into the form it is kept in by the cache. The cache keeps the
+   * object itself, subclasses may keep a more compact form of it.
+   *
+   * @param obj the object to keep
+   * @return what's kept of the object
+   */
+  protected Object encode(T obj) {
+    return obj;
+  }
+
+  /**
+   * Turns what's kept by the cache back into the object, the reverse of {@link #encode(Object)}.
+   *
+   * @param stored what's kept of the object
+   * @return the object
+   */
+  protected T decode(Object stored) {
+    return (T) stored;
+  }
+
+  private T decodeOrNull(Object stored) {
+    return stored == null ? null : decode(stored);
+  }
+
+  private List<T> getAll(State<T> current, Set<String> keys) {
+    List<T> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      T item = decodeOrNull(current.items.get(key));
+      // the key may have been removed concurrently
+      if (item != null) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Items and indices of the cache. Only the writers modify the maps of the
+   * current state, replace() builds a new one.
+   */
+  private static final class State<T> {
+    // items stores objects in the form returned by encode()
+    private final Map<String, Object> items = new ConcurrentHashMap<>();
+
+    // indices stores objects' key by their indices
+    private final Map<String, Map<String, Set<String>>> indices = new ConcurrentHashMap<>();
+
+    // labels stores objects' key by their label keys and values
+    private final Map<String, Map<String, Set<String>>> labels = new ConcurrentHashMap<>();
+
+    // indexValues stores the index values and labels objects are kept under by their keys,
+    // so replacing or deleting an object doesn't need to decode its previous version
+    private final Map<String, IndexValues> indexValues = new HashMap<>();
+  }
+
+  private static final class IndexValues {
+    private final Map<String, String> labels;
+    private final Map<String, List<String>> indices;
+
+    private IndexValues(Map<String, String> labels, Map<String, List<String>> indices) {
+      this.labels = labels;
+      this.indices = indices;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A {@link Cache} which keeps its objects as deflated JSON, on heap or in direct buffers
+ * outside of it, and decodes them again when they are read. The indices stay on heap,
+ * as do the most recently used objects, so reads of hot objects don't pay for decoding.
+ *
+ * Trades CPU for memory: large, rarely read objects such as ConfigMaps, Secrets or Events
+ * typically shrink to a fraction of their size as Java objects. The objects read are
+ * shared, as with the {@link Cache}, but an object not among the recently used ones is a
+ * new instance on every read. Use it through {@link io.fabric8.kubernetes.client.informers.SharedIndexInformer#setIndexer(Indexer)}.
+ *
+ * @param <T> type of the cached objects
+ */
+public class CompactCache<T> extends Cache<T> {
+
+  private final Class<T> type;
+  private final boolean offHeap;
+  private final Map<Encoded, T> decoded;
+
+  /**
+   * @param type type of the cached objects, the one they're decoded to
+   * @param offHeap true to keep the encoded objects in direct buffers
+   * @param decodedCacheSize number of recently used objects kept decoded
+   */
+  public CompactCache(Class<T> type, boolean offHeap, int decodedCacheSize) {
+    this.type = type;
+    this.offHeap = offHeap;
+    this.decoded = new LinkedHashMap<Encoded, T>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Encoded, T> eldest) {
+        return size() > decodedCacheSize;
+      }
+    };
+  }
+
+  @Override
+  protected Object encode(T obj) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+      Serialization.jsonMapper().writeValue(out, obj);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to encode " + obj, e);
+    } finally {
+      deflater.end();
+    }
+    byte[] encoded = bytes.toByteArray();
+    Encoded result = offHeap ? new Encoded(null, (ByteBuffer) ByteBuffer.allocateDirect(encoded.length).put(encoded).flip()) : new Encoded(encoded, null);
+    remember(result, obj);
+    return result;
+  }
+
+  @Override
+  protected T decode(Object stored) {
+    Encoded encoded = (Encoded) stored;
+    synchronized (decoded) {
+      T obj = decoded.get(encoded);
+      if (obj != null) {
+        return obj;
+      }
+    }
+    T obj;
+    try (InputStream in = new InflaterInputStream(encoded.stream())) {
+      obj = Serialization.jsonMapper().readValue(in, type);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to decode a cached " + type.getSimpleName(), e);
+    }
+    remember(encoded, obj);
+    return obj;
+  }
+
+  private void remember(Encoded encoded, T obj) {
+    synchronized (decoded) {
+      decoded.put(encoded, obj);
+    }
+  }
+
+  /**
+   * An encoded object, equal to itself only so an object replaced in the cache never
+   * hits the decoded objects of its previous version.
+   */
+  private static final class Encoded {
+    private final byte[] heap;
+    private final ByteBuffer direct;
+
+    private Encoded(byte[] heap, ByteBuffer direct) {
+      this.heap = heap;
+      this.direct = direct;
+    }
+
+    private InputStream stream() {
+      if (heap != null) {
+        return new ByteArrayInputStream(heap);
+      }
+      // reads the direct buffer in place, the inflater only copies a chunk at a time
+      ByteBuffer buffer = direct.duplicate();
+      return new InputStream() {
+        @Override
+        public int read() {
+          return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          if (len == 0) {
+            return 0;
+          }
+          if (!buffer.hasRemaining()) {
+            return -1;
+          }
+          int count = Math.min(len, buffer.remaining());
+          buffer.get(b, off, count);
+          return count;
+        }
+
+        @Override
+        public int available() {
+          return buffer.remaining();
+        }
+      };
+    }
+  }
+}
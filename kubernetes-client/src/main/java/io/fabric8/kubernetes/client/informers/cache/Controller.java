@@ -21,16 +21,17 @@ import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
 import io.fabric8.kubernetes.client.informers.ResyncRunnable;
 import io.fabric8.kubernetes.client.informers.SharedInformerEventListener;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.AbstractMap;
 import java.util.Deque;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -63,18 +64,36 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
 
   private Consumer<Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>>> processFunc;
 
-  private ScheduledExecutorService reflectExecutor;
-
-  private ScheduledExecutorService resyncExecutor;
-
   private ScheduledFuture resyncFuture;
 
+  /**
+   * set while a resync runs, the ticks falling in meanwhile are skipped
+   */
+  private final AtomicBoolean resyncRunning = new AtomicBoolean();
+
   private OperationContext operationContext;
 
   private ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners;
 
   private Class<T> apiTypeClass;
 
+  /**
+   * maximum number of items the reflector lists per page, null to list everything at once
+   */
+  private Long listLimit;
+
+  /**
+   * resync from the queue's known objects only, the reflector then re-lists on expired watches only
+   */
+  private boolean resyncFromCache;
+
+  /**
+   * snapshot the reflector starts from and saves to, null to always list on start
+   */
+  private InformerSnapshot<T> snapshot;
+
+  private long snapshotPeriodMillis;
+
   public Controller(Class<T> apiTypeClass, DeltaFIFO<T> queue, ListerWatcher<T, L> listerWatcher, Consumer<Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>>> processFunc, Supplier<Boolean> resyncFunc, long fullResyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners) {
     this.queue = queue;
     this.listerWatcher = listerWatcher;
@@ -84,12 +103,6 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     this.fullResyncPeriod = fullResyncPeriod;
     this.operationContext = context;
     this.eventListeners = eventListeners;
-
-    // Starts one daemon thread for reflector
-    this.reflectExecutor = Executors.newSingleThreadScheduledExecutor();
-
-    // Starts one daemon thread for resync
-    this.resyncExecutor = Executors.newSingleThreadScheduledExecutor();
   }
 
   public void run() {
@@ -98,16 +111,21 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     // Start the resync runnable
     if (fullResyncPeriod > 0) {
       ResyncRunnable resyncRunnable = new ResyncRunnable(queue, resyncFunc);
-      resyncFuture = resyncExecutor.scheduleAtFixedRate(resyncRunnable, fullResyncPeriod, fullResyncPeriod, TimeUnit.MILLISECONDS);
+      resyncFuture = SharedScheduler.getScheduler().scheduleAtFixedRate(() -> resyncLater(resyncRunnable), fullResyncPeriod, fullResyncPeriod, TimeUnit.MILLISECONDS);
     } else {
       log.info("informer#Controller: resync skipped due to 0 full resync period");
     }
 
     try {
-        if (fullResyncPeriod > 0) {
-          reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, fullResyncPeriod);
+        if (resyncFromCache) {
+          reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, 0L, listLimit);
+        } else if (fullResyncPeriod > 0) {
+          reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, fullResyncPeriod, listLimit);
         } else {
-          reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, DEFAULT_PERIOD);
+          reflector = new Reflector<>(apiTypeClass, listerWatcher, queue, operationContext, DEFAULT_PERIOD, listLimit);
+        }
+        if (snapshot != null) {
+          reflector.setSnapshot(snapshot, snapshotPeriodMillis);
         }
         reflector.listAndWatch();
 
@@ -120,12 +138,37 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
   }
 
   /**
-   * Stops the resync thread pool first, then stops the reflector.
+   * Hands the resync off to the shared blocking executor. It waits for the lock of the queue, which
+   * is held while the popped deltas are distributed to the handlers, and must not stall the scheduler.
+   */
+  private void resyncLater(Runnable resyncRunnable) {
+    if (!resyncRunning.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      SharedScheduler.getBlockingExecutor().execute(() -> {
+        try {
+          resyncRunnable.run();
+        } catch (RuntimeException e) {
+          log.warn("informer#Controller: resync failed", e);
+        } finally {
+          resyncRunning.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      resyncRunning.set(false);
+    }
+  }
+
+  /**
+   * Cancels the resync first, then stops the reflector.
    */
   public void stop() {
     synchronized (this) {
+      if (resyncFuture != null) {
+        resyncFuture.cancel(false);
+      }
       reflector.stop();
-      reflectExecutor.shutdown();
     }
   }
 
@@ -148,6 +191,38 @@ public class Controller<T extends HasMetadata, L extends KubernetesResourceList<
     return reflector.getLastSyncResourceVersion();
   }
 
+  /**
+   * Sets the maximum number of items the reflector retrieves per list request.
+   * Has to be called before the controller is run.
+   *
+   * @param listLimit maximum number of items per page, null or 0 to list everything at once
+   */
+  public void setListLimit(Long listLimit) {
+    this.listLimit = listLimit;
+  }
+
+  /**
+   * Makes the resync replay the objects known to the queue instead of having the reflector
+   * periodically re-list them. Has to be called before the controller is run.
+   *
+   * @param resyncFromCache true to resync from the known objects and only re-list on expired watches
+   */
+  public void setResyncFromCache(boolean resyncFromCache) {
+    this.resyncFromCache = resyncFromCache;
+  }
+
+  /**
+   * Makes the reflector start from the snapshot and periodically save it.
+   * Has to be called before the controller is run.
+   *
+   * @param snapshot the snapshot to start from and to save to
+   * @param snapshotPeriodMillis period of the saves in milliseconds, 0 to only save when stopped
+   */
+  public void setSnapshot(InformerSnapshot<T> snapshot, long snapshotPeriodMillis) {
+    this.snapshot = snapshot;
+    this.snapshotPeriodMillis = snapshotPeriodMillis;
+  }
+
   /**
    * drains the work queue.
    */
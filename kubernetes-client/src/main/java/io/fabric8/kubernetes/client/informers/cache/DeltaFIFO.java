@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * The DeltaFIFO inherits from an Object queue since that we're actually
@@ -69,6 +71,21 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   private int initialPopulationCount;
 
+  /**
+   * Keys of the items received so far by a paginated replace
+   */
+  private Set<String> pagedReplaceKeys;
+
+  /**
+   * Whether consecutive updates of an object are collapsed into the newest one
+   */
+  private boolean compactUpdates;
+
+  /**
+   * Applied to each object before it is queued, null to queue the objects as they are.
+   */
+  private volatile UnaryOperator<T> transform;
+
   /**
    * For thread safety
    */
@@ -87,6 +104,49 @@ public class DeltaFIFO<T> implements Store<Object> {
     this.notEmpty = lock.writeLock().newCondition();
   }
 
+  /**
+   * Replaces the store of the objects already known, which deletions and resyncs
+   * are checked against. Has to be called before anything is queued.
+   *
+   * @param knownObjects store of the known objects
+   */
+  public void setKnownObjects(Store<T> knownObjects) {
+    lock.writeLock().lock();
+    try {
+      this.knownObjects = knownObjects;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Makes the queue keep only the newest of consecutive updates of an object that
+   * haven't been popped yet, or of an addition followed by updates. The handler then
+   * sees a single update from the last known state to the newest one, instead of
+   * one update per intermediate state.
+   *
+   * @param compactUpdates true to collapse consecutive updates
+   */
+  public void setCompactUpdates(boolean compactUpdates) {
+    lock.writeLock().lock();
+    try {
+      this.compactUpdates = compactUpdates;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Sets a function applied to each object added, updated, deleted or replaced before
+   * it is queued, so that neither the handlers nor the indexer behind the queue ever
+   * see the original object. Objects requeued by a resync have already been transformed.
+   *
+   * @param transform function returning the object to queue, null to queue objects unchanged
+   */
+  public void setTransform(UnaryOperator<T> transform) {
+    this.transform = transform;
+  }
+
   /**
    * Add items to the delta FIFO.
    *
@@ -94,6 +154,7 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   @Override
   public void add(Object obj) {
+    obj = transformed(obj);
     lock.writeLock().lock();
     try {
       populated = true;
@@ -110,6 +171,7 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   @Override
   public void update(Object obj) {
+    obj = transformed(obj);
     lock.writeLock().lock();
     try {
       populated = true;
@@ -126,6 +188,7 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   @Override
   public void delete(Object obj) {
+    obj = transformed(obj);
     String id = this.keyOf(obj);
     lock.writeLock().lock();
     try {
@@ -158,6 +221,7 @@ public class DeltaFIFO<T> implements Store<Object> {
    */
   @Override
   public void replace(List list, String resourceVersion) {
+    list = transformed(list);
     lock.writeLock().lock();
     try {
       Set<String> keys = new HashSet<>();
@@ -166,50 +230,93 @@ public class DeltaFIFO<T> implements Store<Object> {
         keys.add(key);
         this.queueActionLocked(DeltaType.SYNCHRONIZATION, obj);
       }
+      this.replaceDeletionsLocked(keys, list.size());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
 
-      if (this.knownObjects == null) {
-        for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : this.items.entrySet()) {
-          if (keys.contains(entry.getKey())) {
-            continue;
-          }
-
-          Object deletedObj = null;
-          AbstractMap.SimpleEntry<DeltaType, Object> delta = entry.getValue().peekLast(); // Get newest
-          if (delta != null) {
-            deletedObj = delta.getValue();
-          }
-          this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
-        }
+  /**
+   * Replace the items forcibly with a list which is received in several pages,
+   * as returned by a paginated list call. The items of each page are queued as
+   * soon as the page is received, deletions are only detected once the last page
+   * has been added.
+   *
+   * @param page list of objects in this page
+   * @param firstPage whether this is the first page of the list
+   * @param lastPage whether this is the last page of the list
+   */
+  public void replacePage(List page, boolean firstPage, boolean lastPage) {
+    page = transformed(page);
+    lock.writeLock().lock();
+    try {
+      if (firstPage || this.pagedReplaceKeys == null) {
+        this.pagedReplaceKeys = new HashSet<>();
+      }
+      for (Object obj : page) {
+        this.pagedReplaceKeys.add(this.keyOf(obj));
+        this.queueActionLocked(DeltaType.SYNCHRONIZATION, obj);
+      }
 
-        if (!this.populated) {
-          this.populated = true;
-          this.initialPopulationCount = list.size();
-        }
-        return;
+      if (lastPage) {
+        Set<String> keys = this.pagedReplaceKeys;
+        this.pagedReplaceKeys = null;
+        // items of the earlier pages may already have been popped, only count the ones still queued
+        this.replaceDeletionsLocked(keys, this.queue.size());
       }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
 
-      // Detect deletions not already in the queue.
-      List<String> knownKeys = this.knownObjects.listKeys();
-      int queueDeletion = 0;
-      for (String knownKey : knownKeys) {
-        if (keys.contains(knownKey)) {
+  /**
+   * Queues deletions for the objects which weren't part of a replace.
+   * Caller must hold the lock.
+   *
+   * @param keys keys of the objects which were part of the replace
+   * @param listSize number of queued objects which were part of the replace
+   */
+  private void replaceDeletionsLocked(Set<String> keys, int listSize) {
+    if (this.knownObjects == null) {
+      for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : this.items.entrySet()) {
+        if (keys.contains(entry.getKey())) {
           continue;
         }
 
-        Object deletedObj = this.knownObjects.getByKey(knownKey);
-        if (deletedObj == null) {
-          log.warn("Key {} doesn't exist in the known object store, placing DeleteFinalStateUnknown marker without object", knownKey);
+        Object deletedObj = null;
+        AbstractMap.SimpleEntry<DeltaType, Object> delta = entry.getValue().peekLast(); // Get newest
+        if (delta != null) {
+          deletedObj = delta.getValue();
         }
-        queueDeletion++;
-        this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown<>(knownKey, deletedObj));
+        this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown(entry.getKey(), deletedObj));
       }
 
       if (!this.populated) {
         this.populated = true;
-        this.initialPopulationCount = list.size() + queueDeletion;
+        this.initialPopulationCount = listSize;
       }
-    } finally {
-      lock.writeLock().unlock();
+      return;
+    }
+
+    // Detect deletions not already in the queue.
+    List<String> knownKeys = this.knownObjects.listKeys();
+    int queueDeletion = 0;
+    for (String knownKey : knownKeys) {
+      if (keys.contains(knownKey)) {
+        continue;
+      }
+
+      Object deletedObj = this.knownObjects.getByKey(knownKey);
+      if (deletedObj == null) {
+        log.warn("Key {} doesn't exist in the known object store, placing DeleteFinalStateUnknown marker without object", knownKey);
+      }
+      queueDeletion++;
+      this.queueActionLocked(DeltaType.DELETION, new DeletedFinalStateUnknown<>(knownKey, deletedObj));
+    }
+
+    if (!this.populated) {
+      this.populated = true;
+      this.initialPopulationCount = listSize + queueDeletion;
     }
   }
 
@@ -343,6 +450,56 @@ public class DeltaFIFO<T> implements Store<Object> {
     }
   }
 
+  /**
+   * Returns the objects that will be known once every queued delta has been processed,
+   * that is the known objects with the pending additions, updates and deletions applied.
+   * Deltas are processed under the lock of the queue, so the result misses nothing that
+   * has been added to the queue before the call.
+   *
+   * @return the known objects after processing the queued deltas
+   */
+  public List<Object> listKnownAndQueued() {
+    // only the references are copied under the lock, objects kept encoded by the cache are decoded after it
+    Cache<T> cache = this.knownObjects instanceof Cache ? (Cache<T>) this.knownObjects : null;
+    Map<String, Object> known;
+    // the newest queued object by key, null if it's being deleted
+    Map<String, Object> queued = new LinkedHashMap<>();
+    lock.readLock().lock();
+    try {
+      if (cache != null) {
+        known = cache.storedItems();
+      } else {
+        known = new LinkedHashMap<>();
+        if (this.knownObjects != null) {
+          for (Object obj : this.knownObjects.list()) {
+            known.put(this.keyOf(obj), obj);
+          }
+        }
+      }
+      for (Map.Entry<String, Deque<AbstractMap.SimpleEntry<DeltaType, Object>>> entry : this.items.entrySet()) {
+        AbstractMap.SimpleEntry<DeltaType, Object> newest = entry.getValue().peekLast();
+        if (newest != null) {
+          queued.put(entry.getKey(), newest.getKey() == DeltaType.DELETION ? null : newest.getValue());
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<Object> result = new ArrayList<>(known.size() + queued.size());
+    for (Map.Entry<String, Object> entry : known.entrySet()) {
+      if (!queued.containsKey(entry.getKey())) {
+        result.add(cache != null ? cache.decode(entry.getValue()) : entry.getValue());
+      }
+    }
+    for (Object obj : queued.values()) {
+      if (obj != null) {
+        result.add(obj);
+      }
+    }
+    return result;
+  }
+
   /**
    * Has synced boolean
    *
@@ -391,6 +548,25 @@ public class DeltaFIFO<T> implements Store<Object> {
   }
 
 
+  private Object transformed(Object obj) {
+    UnaryOperator<T> currentTransform = this.transform;
+    if (currentTransform == null || obj instanceof DeletedFinalStateUnknown) {
+      return obj;
+    }
+    return currentTransform.apply((T) obj);
+  }
+
+  private List transformed(List list) {
+    if (this.transform == null) {
+      return list;
+    }
+    List<Object> result = new ArrayList<>(list.size());
+    for (Object obj : list) {
+      result.add(transformed(obj));
+    }
+    return result;
+  }
+
   /**
    * Appends to the delta list for the object. Caller must hold the lock.
    *
@@ -453,6 +629,9 @@ public class DeltaFIFO<T> implements Store<Object> {
     AbstractMap.SimpleEntry<DeltaType, Object> d1 = deltas.peekLast();
     AbstractMap.SimpleEntry<DeltaType, Object> d2 = deltas.get(size - 2);
     AbstractMap.SimpleEntry<DeltaType, Object> out = isDuplicate(d1, d2);
+    if (out == null && compactUpdates) {
+      out = compactUpdate(d1, d2);
+    }
     if (out != null) {
       Deque<AbstractMap.SimpleEntry<DeltaType, Object>> newDeltas = new LinkedList<>();
       newDeltas.addAll(deltas.subList(0, size - 2));
@@ -462,6 +641,23 @@ public class DeltaFIFO<T> implements Store<Object> {
     return deltas;
   }
 
+  /**
+   * Collapses an update into the previous update or addition of the same object.
+   *
+   * @param d1 the most one
+   * @param d2 the elder one
+   * @return the collapsed delta, null if they can't be collapsed
+   */
+  private AbstractMap.SimpleEntry<DeltaType, Object> compactUpdate(AbstractMap.SimpleEntry<DeltaType, Object> d1, AbstractMap.SimpleEntry<DeltaType, Object> d2) {
+    if (d1.getKey() != DeltaType.UPDATION) {
+      return null;
+    }
+    if (d2.getKey() == DeltaType.UPDATION || d2.getKey() == DeltaType.ADDITION) {
+      return new AbstractMap.SimpleEntry<>(d2.getKey(), d1.getValue());
+    }
+    return null;
+  }
+
   /**
    * Keep the one with the most information if both are deletions.
    *
@@ -15,9 +15,15 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Indexer extends Store interface and add index/de-index methods.
@@ -55,6 +61,69 @@ public interface Indexer<T> extends Store<T> {
    */
   List<T> byIndex(String indexName, String indexKey);
 
+  /**
+   * Calls the consumer for each object that matches on the named indexing function
+   * with the exact key. The default implementation goes through {@link #byIndex(String, String)},
+   * {@link Cache} calls it without copying the objects into a list.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @param consumer consumer of the matched objects
+   */
+  default void forEachInIndex(String indexName, String indexKey, Consumer<T> consumer) {
+    byIndex(indexName, indexKey).forEach(consumer);
+  }
+
+  /**
+   * Streams objects that match on the named indexing function with the exact key.
+   * The default implementation streams {@link #byIndex(String, String)}, the stream
+   * of {@link Cache} is backed by the store and doesn't copy the matched objects.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return matched objects
+   */
+  default Stream<T> streamByIndex(String indexName, String indexKey) {
+    return byIndex(indexName, indexKey).stream();
+  }
+
+  /**
+   * Counts objects that match on the named indexing function with the exact key.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @return number of matched objects
+   */
+  default int countByIndex(String indexName, String indexKey) {
+    return byIndex(indexName, indexKey).size();
+  }
+
+  /**
+   * Lists objects whose labels match the selector, both its matchLabels and its
+   * matchExpressions. The default implementation checks each object of {@link #list()},
+   * {@link Cache} looks them up in its label index instead.
+   *
+   * @param namespace namespace of the objects, null for any namespace
+   * @param labelSelector selector on the labels of the objects, null to select all of them
+   * @return matched objects
+   */
+  default List<T> byLabelSelector(String namespace, LabelSelector labelSelector) {
+    List<LabelSelectorRequirement> requirements = LabelSelectorMatcher.requirementsOf(labelSelector);
+    return list().stream()
+      .filter(item -> LabelSelectorMatcher.matches(item, namespace, requirements))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Streams all the objects of the store. The default implementation streams
+   * {@link #list()}, the stream of {@link Cache} doesn't copy them into a list.
+   *
+   * @return all the objects
+   */
+  default Stream<T> stream() {
+    return list().stream();
+  }
+
   /**
    * Return the indexers registered with the store.
    *
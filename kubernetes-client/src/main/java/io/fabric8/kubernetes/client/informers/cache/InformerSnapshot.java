@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A file holding the objects of an informer's cache along with the resource version they
+ * were synced at, so a restarted informer can resume watching from there instead of
+ * listing everything again.
+ *
+ * The file is a deflated stream of length prefixed chunks: a header with the format version,
+ * the type of the objects, the resource version and the number of objects, then one chunk
+ * of JSON per object. It is written to a temporary file of its own first and moved in place,
+ * so a crash while saving leaves the previous snapshot intact and concurrent saves never
+ * write to the same temporary file.
+ *
+ * @param <T> type of the objects
+ */
+public class InformerSnapshot<T> {
+
+  static final int MAGIC = 0x464b4953;
+  static final int FORMAT_VERSION = 1;
+  // deflate can't shrink data by more than this
+  private static final long MAX_DEFLATE_RATIO = 1032;
+  private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+  private final Path file;
+  private final Class<T> type;
+
+  /**
+   * @param file the file the snapshot is kept in
+   * @param type type of the objects
+   */
+  public InformerSnapshot(File file, Class<T> type) {
+    this.file = file.toPath();
+    this.type = type;
+  }
+
+  /**
+   * Replaces the snapshot by the given objects.
+   *
+   * @param items the objects of the cache
+   * @param resourceVersion the resource version the objects are synced at
+   * @throws IOException if the snapshot can't be written
+   */
+  public synchronized void save(Collection<?> items, String resourceVersion) throws IOException {
+    Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+    try {
+      write(temporary, items, resourceVersion);
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private void write(Path temporary, Collection<?> items, String resourceVersion) throws IOException {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+      new DeflaterOutputStream(Files.newOutputStream(temporary), deflater)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(type.getName());
+      out.writeUTF(resourceVersion);
+      out.writeInt(items.size());
+      for (Object item : items) {
+        byte[] chunk = Serialization.jsonMapper().writeValueAsBytes(item);
+        out.writeInt(chunk.length);
+        out.write(chunk);
+      }
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Reads the snapshot.
+   *
+   * @return the objects and resource version of the snapshot, null if there's no snapshot
+   * @throws IOException if the snapshot can't be read, is corrupt or isn't a snapshot of objects of this type
+   */
+  public Contents<T> load() throws IOException {
+    long maxInflatedSize;
+    try {
+      maxInflatedSize = Files.size(file) * MAX_DEFLATE_RATIO;
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+      new InflaterInputStream(Files.newInputStream(file))))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        throw new IOException("Unsupported informer snapshot " + file);
+      }
+      String typeName = in.readUTF();
+      if (!type.getName().equals(typeName)) {
+        throw new IOException("Informer snapshot " + file + " holds " + typeName + " instead of " + type.getName());
+      }
+      String resourceVersion = in.readUTF();
+      int count = in.readInt();
+      // each object takes at least its length prefix
+      checkLength(count, maxInflatedSize / Integer.BYTES);
+      List<T> items = new ArrayList<>(Math.min(count, READ_CHUNK_SIZE));
+      for (int i = 0; i < count; i++) {
+        items.add(Serialization.jsonMapper().readValue(readChunk(in, maxInflatedSize), type));
+      }
+      return new Contents<>(items, resourceVersion);
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads a length prefixed chunk. The buffer grows as the bytes arrive, so a corrupt
+   * length fails with the end of the stream rather than allocating that much up front.
+   */
+  private byte[] readChunk(DataInputStream in, long maxInflatedSize) throws IOException {
+    int length = in.readInt();
+    checkLength(length, maxInflatedSize);
+    byte[] chunk = new byte[Math.min(length, READ_CHUNK_SIZE)];
+    int read = 0;
+    while (read < length) {
+      if (read == chunk.length) {
+        chunk = Arrays.copyOf(chunk, (int) Math.min(length, 2L * chunk.length));
+      }
+      in.readFully(chunk, read, chunk.length - read);
+      read = chunk.length;
+    }
+    return chunk;
+  }
+
+  private void checkLength(int length, long max) throws IOException {
+    if (length < 0 || length > max) {
+      throw new IOException("Corrupt informer snapshot " + file + ", invalid length " + length);
+    }
+  }
+
+  /**
+   * The objects of a snapshot and the resource version they were synced at.
+   *
+   * @param <T> type of the objects
+   */
+  public static final class Contents<T> {
+    private final List<T> items;
+    private final String resourceVersion;
+
+    private Contents(List<T> items, String resourceVersion) {
+      this.items = items;
+      this.resourceVersion = resourceVersion;
+    }
+
+    public List<T> getItems() {
+      return items;
+    }
+
+    public String getResourceVersion() {
+      return resourceVersion;
+    }
+  }
+}
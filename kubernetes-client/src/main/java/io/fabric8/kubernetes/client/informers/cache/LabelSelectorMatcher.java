@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches objects against label selectors on the client side, the way the API server does.
+ */
+public final class LabelSelectorMatcher {
+
+  private LabelSelectorMatcher() {
+  }
+
+  /**
+   * Turns the label selector into a list of requirements, its matchLabels become "In" requirements.
+   *
+   * @param labelSelector the selector, null to select everything
+   * @return the requirements, empty when everything is selected
+   * @throws IllegalArgumentException if an expression has an unsupported operator
+   */
+  public static List<LabelSelectorRequirement> requirementsOf(LabelSelector labelSelector) {
+    List<LabelSelectorRequirement> requirements = new ArrayList<>();
+    if (labelSelector == null) {
+      return requirements;
+    }
+    if (labelSelector.getMatchLabels() != null) {
+      for (Map.Entry<String, String> label : labelSelector.getMatchLabels().entrySet()) {
+        requirements.add(new LabelSelectorRequirement(label.getKey(), "In", Collections.singletonList(label.getValue())));
+      }
+    }
+    if (labelSelector.getMatchExpressions() != null) {
+      for (LabelSelectorRequirement requirement : labelSelector.getMatchExpressions()) {
+        switch (requirement.getOperator()) {
+          case "In":
+          case "NotIn":
+          case "Exists":
+          case "DoesNotExist":
+            requirements.add(requirement);
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported operator: " + requirement.getOperator());
+        }
+      }
+    }
+    return requirements;
+  }
+
+  /**
+   * @param item the object to check
+   * @param namespace namespace the object has to be in, null for any namespace
+   * @param requirements requirements on the labels of the object, as returned by {@link #requirementsOf(LabelSelector)}
+   * @return true if the object is in the namespace and its labels fulfill every requirement
+   */
+  public static boolean matches(Object item, String namespace, List<LabelSelectorRequirement> requirements) {
+    if (namespace != null) {
+      ObjectMeta metadata = item instanceof HasMetadata ? ((HasMetadata) item).getMetadata() : null;
+      if (metadata == null || !namespace.equals(metadata.getNamespace())) {
+        return false;
+      }
+    }
+    Map<String, String> labels = labelsOf(item);
+    for (LabelSelectorRequirement requirement : requirements) {
+      String value = labels.get(requirement.getKey());
+      boolean listed = value != null && requirement.getValues() != null && requirement.getValues().contains(value);
+      switch (requirement.getOperator()) {
+        case "In":
+          if (!listed) {
+            return false;
+          }
+          break;
+        case "NotIn":
+          if (listed) {
+            return false;
+          }
+          break;
+        case "Exists":
+          if (value == null) {
+            return false;
+          }
+          break;
+        default:
+          if (value != null) {
+            return false;
+          }
+      }
+    }
+    return true;
+  }
+
+  static Map<String, String> labelsOf(Object obj) {
+    ObjectMeta metadata = obj instanceof HasMetadata ? ((HasMetadata) obj).getMetadata() : null;
+    Map<String, String> labels = metadata != null ? metadata.getLabels() : null;
+    return labels != null ? labels : Collections.emptyMap();
+  }
+}
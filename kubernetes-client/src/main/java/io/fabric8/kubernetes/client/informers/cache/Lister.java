@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client.informers.cache;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Lister interface is used to list cached items from a running informer.
@@ -51,6 +53,45 @@ public class Lister<T> {
     }
   }
 
+  /**
+   * Streams the cached items without copying them into a list.
+   *
+   * @return the cached items of the namespace, or all of them when no namespace is set
+   */
+  public Stream<T> stream() {
+    if ((namespace == null || namespace.isEmpty())) {
+      return indexer.stream();
+    } else {
+      return indexer.streamByIndex(this.indexName, namespace);
+    }
+  }
+
+  /**
+   * Calls the consumer for each cached item without copying them into a list.
+   *
+   * @param consumer consumer of the cached items
+   */
+  public void forEach(Consumer<T> consumer) {
+    if ((namespace == null || namespace.isEmpty())) {
+      indexer.stream().forEach(consumer);
+    } else {
+      indexer.forEachInIndex(this.indexName, namespace, consumer);
+    }
+  }
+
+  /**
+   * Counts the cached items without copying them into a list.
+   *
+   * @return number of cached items of the namespace, or of all of them when no namespace is set
+   */
+  public int count() {
+    if ((namespace == null || namespace.isEmpty())) {
+      return indexer.size();
+    } else {
+      return indexer.countByIndex(this.indexName, namespace);
+    }
+  }
+
   public T get(String name) {
     String key = name;
     if (namespace != null && !namespace.isEmpty()) {
@@ -15,20 +15,27 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.client.informers.BatchResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * ProcessorListener implements Runnable interface. It's supposed to run in background
- * and actually executes its event handler on notification. Note that it allows 1000
- * pending notification at maximum.
+ * and actually executes its event handler on notification. The queue of pending
+ * notifications is unbounded unless a limit is set with
+ * {@link #setQueueLimit(int, OverflowPolicy)}.
  *
  * This has been taken from official client: https://github.com/kubernetes-client/java/blob/master/util/src/main/java/io/kubernetes/client/informer/cache/ProcessorListener.java
  * which has been ported from official go client: https://github.com/kubernetes/client-go/blob/master/tools/cache/shared_informer.go#L570
@@ -37,36 +44,215 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 public class ProcessorListener<T> implements Runnable {
   private static final Logger log = LoggerFactory.getLogger(ProcessorListener.class);
+  private static final int MAX_BATCH_SIZE = 1000;
   private long resyncPeriodInMillis;
   private ZonedDateTime nextResync;
-  private BlockingQueue<Notification<T>> queue;
+  private final LinkedList<Notification<T>> queue = new LinkedList<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private int queueCapacity;
+  private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
   private ResourceEventHandler<T> handler;
+  private boolean stopped;
+
+  // metrics, guarded by lock
+  private long droppedCount;
+  private long coalescedCount;
+  private long handledCount;
+  private long handlerCalls;
+  private long handlerNanos;
+  private long maxHandlerNanos;
 
   public ProcessorListener(ResourceEventHandler<T> handler, long resyncPeriodInMillis) {
     this.resyncPeriodInMillis = resyncPeriodInMillis;
     this.handler = handler;
-    this.queue = new LinkedBlockingQueue<>();
 
     determineNextResync(ZonedDateTime.now());
   }
 
+  /**
+   * Bounds the queue of pending notifications.
+   *
+   * @param queueCapacity maximum number of pending notifications, 0 for no limit
+   * @param overflowPolicy what to do with a notification when the queue is full
+   */
+  public void setQueueLimit(int queueCapacity, OverflowPolicy overflowPolicy) {
+    lock.lock();
+    try {
+      this.queueCapacity = Math.max(queueCapacity, 0);
+      this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public void run() {
     while (true) {
+      List<Notification<T>> notifications;
       try {
-        queue.take().handle(handler);
+        notifications = take();
       } catch(InterruptedException ex) {
         log.error("Processor thread interrupted: {}", ex.getMessage());
         Thread.currentThread().interrupt();
         return;
+      }
+      long start = System.nanoTime();
+      try {
+        if (handler instanceof BatchResourceEventHandler) {
+          ((BatchResourceEventHandler<T>) handler).onBatch(notifications);
+        } else {
+          notifications.get(0).handle(handler);
+        }
       } catch (Exception ex) {
-        log.error("Failed invoking {} event handler: {}", ex.getMessage());
+        log.error("Failed invoking {} event handler: {}", handler, ex.getMessage());
+      } finally {
+        recordHandled(notifications.size(), System.nanoTime() - start);
+      }
+    }
+  }
+
+  private List<Notification<T>> take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (queue.isEmpty()) {
+        notEmpty.await();
       }
+      List<Notification<T>> notifications;
+      if (handler instanceof BatchResourceEventHandler) {
+        notifications = new ArrayList<>(Math.min(queue.size(), MAX_BATCH_SIZE));
+        while (!queue.isEmpty() && notifications.size() < MAX_BATCH_SIZE) {
+          notifications.add(queue.removeFirst());
+        }
+      } else {
+        notifications = Collections.singletonList(queue.removeFirst());
+      }
+      notFull.signalAll();
+      return notifications;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void recordHandled(int count, long nanos) {
+    lock.lock();
+    try {
+      handledCount += count;
+      handlerCalls++;
+      handlerNanos += nanos;
+      maxHandlerNanos = Math.max(maxHandlerNanos, nanos);
+    } finally {
+      lock.unlock();
     }
   }
 
   public void add(Notification<T> obj) {
-    Optional.ofNullable(obj).ifPresent(this.queue::add);
+    add(obj, false);
+  }
+
+  /**
+   * Queues a notification, applying the overflow policy if the queue is full. Notifications
+   * added once the listener is stopped are discarded.
+   *
+   * @param obj the notification
+   * @param isSync whether the notification comes from a resync
+   */
+  public void add(Notification<T> obj, boolean isSync) {
+    if (obj == null) {
+      return;
+    }
+    lock.lock();
+    try {
+      while (!stopped && queueCapacity > 0 && queue.size() >= queueCapacity) {
+        if (overflowPolicy == OverflowPolicy.DROP_RESYNC && isSync) {
+          droppedCount++;
+          return;
+        }
+        if (overflowPolicy == OverflowPolicy.COALESCE && coalesceLocked(obj)) {
+          coalescedCount++;
+          return;
+        }
+        notFull.await();
+      }
+      if (stopped) {
+        return;
+      }
+      queue.addLast(obj);
+      notEmpty.signal();
+    } catch (InterruptedException e) {
+      log.warn("Interrupted while waiting to queue a notification for {}", handler);
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops accepting notifications and releases the threads waiting for room in the queue.
+   */
+  public void stop() {
+    lock.lock();
+    try {
+      stopped = true;
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Merges the notification into the newest queued one for the same object.
+   * Caller must hold the lock.
+   *
+   * @param obj the notification
+   * @return true if it was merged
+   */
+  private boolean coalesceLocked(Notification<T> obj) {
+    String key = keyOf(obj);
+    ListIterator<Notification<T>> it = queue.listIterator(queue.size());
+    while (it.hasPrevious()) {
+      Notification<T> queued = it.previous();
+      if (!key.equals(keyOf(queued))) {
+        continue;
+      }
+      if (obj instanceof UpdateNotification && queued instanceof AddNotification) {
+        it.set(new AddNotification<>(obj.getNewObject()));
+      } else if (obj instanceof UpdateNotification && queued instanceof UpdateNotification) {
+        it.set(new UpdateNotification<>(queued.getOldObject(), obj.getNewObject()));
+      } else if (obj instanceof DeleteNotification && queued instanceof AddNotification) {
+        // the handler has never seen the object
+        it.remove();
+        notFull.signalAll();
+      } else if (obj instanceof DeleteNotification && queued instanceof UpdateNotification) {
+        it.set(obj);
+      } else {
+        return false;
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static String keyOf(Notification<?> notification) {
+    Object obj = notification.getNewObject() != null ? notification.getNewObject() : notification.getOldObject();
+    return Cache.deletionHandlingMetaNamespaceKeyFunc(obj);
+  }
+
+  /**
+   * Returns a snapshot of the queue and handler metrics.
+   *
+   * @return the metrics
+   */
+  public Metrics getMetrics() {
+    lock.lock();
+    try {
+      return new Metrics(queue.size(), queueCapacity, droppedCount, coalescedCount, handledCount,
+        handlerCalls == 0 ? 0 : handlerNanos / handlerCalls, maxHandlerNanos);
+    } finally {
+      lock.unlock();
+    }
   }
 
   public void determineNextResync(ZonedDateTime now) {
@@ -77,6 +263,78 @@ public class ProcessorListener<T> implements Runnable {
     return this.resyncPeriodInMillis != 0 && (now.isAfter(this.nextResync) || now.equals(this.nextResync));
   }
 
+  /**
+   * Queue depth and handler latency of a listener.
+   */
+  public static final class Metrics {
+    private final int queueSize;
+    private final int queueCapacity;
+    private final long droppedCount;
+    private final long coalescedCount;
+    private final long handledCount;
+    private final long averageHandlerNanos;
+    private final long maxHandlerNanos;
+
+    public Metrics(int queueSize, int queueCapacity, long droppedCount, long coalescedCount, long handledCount, long averageHandlerNanos, long maxHandlerNanos) {
+      this.queueSize = queueSize;
+      this.queueCapacity = queueCapacity;
+      this.droppedCount = droppedCount;
+      this.coalescedCount = coalescedCount;
+      this.handledCount = handledCount;
+      this.averageHandlerNanos = averageHandlerNanos;
+      this.maxHandlerNanos = maxHandlerNanos;
+    }
+
+    /**
+     * @return number of notifications waiting to be handled
+     */
+    public int getQueueSize() {
+      return queueSize;
+    }
+
+    /**
+     * @return maximum number of pending notifications, 0 if unbounded
+     */
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    /**
+     * @return number of resync notifications dropped because the queue was full
+     */
+    public long getDroppedCount() {
+      return droppedCount;
+    }
+
+    /**
+     * @return number of notifications merged into a queued one because the queue was full
+     */
+    public long getCoalescedCount() {
+      return coalescedCount;
+    }
+
+    /**
+     * @return number of notifications passed to the handler
+     */
+    public long getHandledCount() {
+      return handledCount;
+    }
+
+    /**
+     * @return average duration of a handler call in nanoseconds
+     */
+    public long getAverageHandlerNanos() {
+      return averageHandlerNanos;
+    }
+
+    /**
+     * @return longest duration of a handler call in nanoseconds
+     */
+    public long getMaxHandlerNanos() {
+      return maxHandlerNanos;
+    }
+  }
+
   public abstract static class Notification<T> {
     private final T oldObject;
     private final T newObject;
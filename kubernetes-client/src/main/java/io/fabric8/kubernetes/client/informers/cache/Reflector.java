@@ -18,15 +18,18 @@ package io.fabric8.kubernetes.client.informers.cache;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.utils.SerialExecutor;
+import io.fabric8.kubernetes.client.utils.SharedScheduler;
+import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.Executors;
+import java.net.HttpURLConnection;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -39,46 +42,120 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private final AtomicReference<String> lastSyncResourceVersion;
   private final Class<T> apiTypeClass;
   private final ListerWatcher<T, L> listerWatcher;
-  private final Store<T> store;
+  private final DeltaFIFO<T> store;
   private final OperationContext operationContext;
   private final long resyncPeriodMillis;
-  private final ScheduledExecutorService resyncExecutor;
+  private final Long listLimit;
+  /**
+   * runs the re-lists, watch restarts and snapshot saves, one at a time, off the shared scheduler as they block
+   */
+  private final SerialExecutor executor;
   private final ReflectorWatcher<T> watcher;
   private final AtomicBoolean isActive;
   private final AtomicBoolean isWatcherStarted;
   private final AtomicReference<Watch> watch;
+  private InformerSnapshot<T> snapshot;
+  private long snapshotPeriodMillis;
+  /**
+   * held while saving, so the save on stop can't race a periodic one and be overwritten by older contents
+   */
+  private final Object snapshotLock = new Object();
 
+  /**
+   * @deprecated the reflector hands the listed pages to the store and saves snapshots from it, which only a
+   * {@link DeltaFIFO} supports, use {@link #Reflector(Class, ListerWatcher, DeltaFIFO, OperationContext, long)}
+   * @throws IllegalArgumentException if the store is not a {@link DeltaFIFO}
+   */
+  @Deprecated
   public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, Store store, OperationContext operationContext, long resyncPeriodMillis) {
+    this(apiTypeClass, listerWatcher, asDeltaFIFO(store), operationContext, resyncPeriodMillis, null);
+  }
+
+  public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, DeltaFIFO store, OperationContext operationContext, long resyncPeriodMillis) {
+    this(apiTypeClass, listerWatcher, store, operationContext, resyncPeriodMillis, null);
+  }
+
+  /**
+   * Creates a Reflector which lists the resources in pages of at most listLimit items.
+   * Each page is added to the store as soon as it is received, so that the complete
+   * list never has to be held in memory at once.
+   *
+   * @param apiTypeClass apiType class
+   * @param listerWatcher lister watcher for the resource
+   * @param store delta FIFO which is fed with the listed and watched items
+   * @param operationContext operation context
+   * @param resyncPeriodMillis period of the full re-list in milliseconds, 0 to only re-list when the watch expires
+   * @param listLimit maximum number of items per list page, null or 0 to list everything at once
+   */
+  public Reflector(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, DeltaFIFO store, OperationContext operationContext, long resyncPeriodMillis, Long listLimit) {
     this.apiTypeClass = apiTypeClass;
     this.listerWatcher = listerWatcher;
     this.store = store;
     this.operationContext = operationContext;
     this.resyncPeriodMillis = resyncPeriodMillis;
+    this.listLimit = listLimit != null && listLimit > 0 ? listLimit : null;
     lastSyncResourceVersion = new AtomicReference<>();
-    resyncExecutor = Executors.newSingleThreadScheduledExecutor();
-    watcher = new ReflectorWatcher<>(store, lastSyncResourceVersion, this::startWatcher, this::reListAndSync);
+    executor = SharedScheduler.newBlockingSerialExecutor();
+    watcher = new ReflectorWatcher<>(store, lastSyncResourceVersion, () -> runLater(this::startWatcher, 0L), () -> runLater(this::reListAndSync, 0L));
     isActive = new AtomicBoolean(true);
     isWatcherStarted = new AtomicBoolean(false);
     watch = new AtomicReference<>(null);
   }
 
-  private L getList() {
+  private static DeltaFIFO asDeltaFIFO(Store store) {
+    if (!(store instanceof DeltaFIFO)) {
+      throw new IllegalArgumentException("Reflector requires a DeltaFIFO store, got " + (store == null ? null : store.getClass().getName()));
+    }
+    return (DeltaFIFO) store;
+  }
+
+  private L getList(Long limit, String continueVal) {
     try {
       return listerWatcher.list(new ListOptionsBuilder()
-        .withWatch(Boolean.FALSE)
-        .withResourceVersion(null)
-        .withTimeoutSeconds(null).build(), operationContext.getNamespace(), operationContext);
+        .withLimit(limit)
+        .withContinue(continueVal).build(), operationContext.getNamespace(), operationContext);
+    } catch (KubernetesClientException exception) {
+      if (continueVal != null && exception.getCode() == HttpURLConnection.HTTP_GONE) {
+        // the continue token has expired, let the caller start again with a full list
+        throw exception;
+      }
+      store.isPopulated(false);
+      throw new RejectedExecutionException("Error while doing ReflectorRunnable list", exception);
     } catch (Exception exception) {
       store.isPopulated(false);
       throw new RejectedExecutionException("Error while doing ReflectorRunnable list", exception);
     }
   }
 
+  /**
+   * Makes the reflector start from the given snapshot, if there is one, and resume watching
+   * from its resource version instead of listing all items. Only the initial list is skipped, the
+   * periodic re-lists, if any, start one resync period later and the items are listed as well when
+   * the watch has expired (410 Gone). The snapshot is saved every snapshotPeriodMillis and when
+   * the reflector is stopped. Has to be called before {@link #listAndWatch()}.
+   *
+   * @param snapshot the snapshot to start from and to save to
+   * @param snapshotPeriodMillis period of the saves in milliseconds, 0 to only save when stopped
+   */
+  public void setSnapshot(InformerSnapshot<T> snapshot, long snapshotPeriodMillis) {
+    this.snapshot = snapshot;
+    this.snapshotPeriodMillis = snapshotPeriodMillis;
+  }
+
   public void listAndWatch() throws Exception {
     try {
       log.info("Started ReflectorRunnable watch for {}", apiTypeClass);
-      reListAndSync();
-      resyncExecutor.scheduleWithFixedDelay(this::reListAndSync, 0L, resyncPeriodMillis, TimeUnit.MILLISECONDS);
+      boolean restored = restoreSnapshot();
+      if (!restored) {
+        reListAndSync();
+      }
+      if (resyncPeriodMillis > 0) {
+        // the items have just been listed or restored, the first re-list is due one period later
+        runLater(this::resync, restored ? resyncPeriodMillis : 0L);
+      }
+      if (snapshot != null && snapshotPeriodMillis > 0) {
+        runLater(this::saveSnapshotPeriodically, snapshotPeriodMillis);
+      }
       startWatcher();
     } catch (Exception exception) {
       store.isPopulated(false);
@@ -88,19 +165,117 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   public void stop() {
     isActive.set(false);
+    executor.shutdown();
+    if (snapshot != null) {
+      saveSnapshot();
+    }
+  }
+
+  private boolean restoreSnapshot() {
+    if (snapshot == null) {
+      return false;
+    }
+    try {
+      InformerSnapshot.Contents<T> contents = snapshot.load();
+      if (contents == null) {
+        return false;
+      }
+      log.info("Restored {} items of resource {} v{} from snapshot", contents.getItems().size(), apiTypeClass, contents.getResourceVersion());
+      store.replace(contents.getItems(), contents.getResourceVersion());
+      lastSyncResourceVersion.set(contents.getResourceVersion());
+      return true;
+    } catch (Exception e) {
+      log.warn("Unable to restore snapshot of resource {}, listing all items", apiTypeClass, e);
+      return false;
+    }
+  }
+
+  /**
+   * Saves the snapshot, then schedules the next save, on the executor of the reflector as
+   * writing the file blocks.
+   */
+  private void saveSnapshotPeriodically() {
+    try {
+      saveSnapshot();
+    } finally {
+      runLater(this::saveSnapshotPeriodically, snapshotPeriodMillis);
+    }
   }
 
-  private void reListAndSync() {
-    final L list = getList();
-    final String latestResourceVersion = list.getMetadata().getResourceVersion();
-    log.debug("Listing items ({}) for resource {} v{}", list.getItems().size(), apiTypeClass, latestResourceVersion);
-    lastSyncResourceVersion.set(latestResourceVersion);
-    store.replace(list.getItems(), latestResourceVersion);
+  private void saveSnapshot() {
+    synchronized (snapshotLock) {
+      // read before the items, every item up to this version has been added to the store already
+      String resourceVersion = lastSyncResourceVersion.get();
+      if (resourceVersion == null) {
+        return;
+      }
+      try {
+        snapshot.save(store.listKnownAndQueued(), resourceVersion);
+      } catch (Exception e) {
+        log.warn("Unable to save snapshot of resource {}", apiTypeClass, e);
+      }
+    }
+  }
+
+  /**
+   * Runs the task on the executor of the reflector once the delay has elapsed, unless the
+   * reflector has been stopped.
+   */
+  private void runLater(Runnable task, long delayMillis) {
     if (!isActive.get()) {
-      resyncExecutor.shutdown();
+      return;
+    }
+    try {
+      if (delayMillis > 0) {
+        executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+      } else {
+        executor.execute(task);
+      }
+    } catch (RejectedExecutionException e) {
+      log.debug("Reflector for resource {} has been stopped, dropping task", apiTypeClass);
     }
   }
 
+  /**
+   * Re-lists, then schedules the next re-list, so that they are resyncPeriodMillis apart
+   * however long each of them takes.
+   */
+  private void resync() {
+    try {
+      reListAndSync();
+    } finally {
+      runLater(this::resync, resyncPeriodMillis);
+    }
+  }
+
+  private synchronized void reListAndSync() {
+    try {
+      listPagesAndSync(listLimit);
+    } catch (KubernetesClientException exception) {
+      log.info("Continue token expired while listing resource {}, listing all items at once", apiTypeClass);
+      listPagesAndSync(null);
+    }
+  }
+
+  private void listPagesAndSync(Long limit) {
+    String continueVal = null;
+    boolean firstPage = true;
+    boolean lastPage;
+    do {
+      final L list = getList(limit, continueVal);
+      final String latestResourceVersion = list.getMetadata().getResourceVersion();
+      log.debug("Listing items ({}) for resource {} v{}", list.getItems().size(), apiTypeClass, latestResourceVersion);
+      continueVal = list.getMetadata().getContinue();
+      lastPage = Utils.isNullOrEmpty(continueVal);
+      store.replacePage(list.getItems(), firstPage, lastPage);
+      if (lastPage) {
+        // only once the items are in the store, a snapshot must not get the version without them
+        lastSyncResourceVersion.set(latestResourceVersion);
+      }
+      firstPage = false;
+    } while (!lastPage);
+  }
+
   private void startWatcher() {
     log.debug("Starting watcher for resource {} v{}", apiTypeClass, lastSyncResourceVersion.get());
     if (watch.get() != null) {
@@ -109,19 +284,19 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     }
     if (isWatcherStarted.get()) {
       log.debug("Watcher already started, delaying execution of new watcher");
-      try {
-        Thread.sleep(WATCH_RESTART_DELAY_MILLIS);
-      } catch (InterruptedException e) {
-        log.error("Reflector thread was interrupted");
-        Thread.currentThread().interrupt();
-        return;
-      }
+      runLater(this::openWatch, WATCH_RESTART_DELAY_MILLIS);
+      return;
     }
+    openWatch();
+  }
+
+  private void openWatch() {
     if (isActive.get()) {
       isWatcherStarted.set(true);
       watch.set(
         listerWatcher.watch(new ListOptionsBuilder()
-          .withWatch(Boolean.TRUE).withResourceVersion(lastSyncResourceVersion.get()).withTimeoutSeconds(null).build(),
+          .withWatch(Boolean.TRUE).withResourceVersion(lastSyncResourceVersion.get()).withTimeoutSeconds(null)
+          .withAllowWatchBookmarks(Boolean.TRUE).build(),
         operationContext.getNamespace(), operationContext, watcher)
       );
     }
@@ -64,6 +64,9 @@ public class ReflectorWatcher<T extends HasMetadata> implements Watcher<T> {
       case DELETED:
         store.delete(resource);
         break;
+      case BOOKMARK:
+        // nothing changed, only the resource version has to be recorded
+        break;
     }
     lastSyncResourceVersion.set(resource.getMetadata().getResourceVersion());
     log.debug("{}#Receiving resourceVersion {}", resource.getKind(), lastSyncResourceVersion.get());
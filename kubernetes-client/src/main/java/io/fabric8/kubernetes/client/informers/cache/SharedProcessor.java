@@ -15,8 +15,11 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
+
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -103,26 +106,31 @@ public class SharedProcessor<T> {
   }
 
   /**
-   * Distribute the object amount listeners.
+   * Distribute the object amount listeners. The notification is queued outside the lock,
+   * so a listener whose bounded queue is full doesn't block adding or stopping listeners.
    *
    * @param obj specific obj
    * @param isSync whether in sync or not
    */
   public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
+    List<ProcessorListener<T>> recipients;
     lock.readLock().lock();
     try {
-      if (isSync) {
-        for (ProcessorListener<T> listener : syncingListeners) {
-          listener.add(obj);
-        }
-      } else {
-        for (ProcessorListener<T> listener : listeners) {
-          listener.add(obj);
-        }
+      List<ProcessorListener<T>> current = isSync ? syncingListeners : listeners;
+      if (current == null) {
+        return;
       }
+      recipients = new ArrayList<>(current);
     } finally {
       lock.readLock().unlock();
     }
+    for (ProcessorListener<T> listener : recipients) {
+      if (isSync) {
+        listener.add(obj, true);
+      } else {
+        listener.add(obj);
+      }
+    }
   }
 
   public boolean shouldResync() {
@@ -145,13 +153,60 @@ public class SharedProcessor<T> {
     return resyncNeeded;
   }
 
+  /**
+   * Bounds the notification queues of all the registered listeners.
+   *
+   * @param queueCapacity maximum number of pending notifications per listener, 0 for no limit
+   * @param overflowPolicy what to do with a notification when a queue is full
+   */
+  public void setQueueLimit(int queueCapacity, OverflowPolicy overflowPolicy) {
+    lock.readLock().lock();
+    try {
+      if (listeners == null) {
+        return;
+      }
+      for (ProcessorListener<T> listener : listeners) {
+        listener.setQueueLimit(queueCapacity, overflowPolicy);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the metrics of the registered listeners.
+   *
+   * @return metrics of each listener, in registration order
+   */
+  public List<ProcessorListener.Metrics> getMetrics() {
+    lock.readLock().lock();
+    try {
+      if (listeners == null) {
+        return Collections.emptyList();
+      }
+      List<ProcessorListener.Metrics> metrics = new ArrayList<>(listeners.size());
+      for (ProcessorListener<T> listener : listeners) {
+        metrics.add(listener.getMetrics());
+      }
+      return metrics;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
   public void stop() {
+    List<ProcessorListener<T>> stopped;
     lock.writeLock().lock();
     try {
+      stopped = listeners;
       listeners = null;
     } finally {
       lock.writeLock().unlock();
     }
+    if (stopped != null) {
+      // wakes up the controller if it's waiting for room in a full queue
+      stopped.forEach(ProcessorListener::stop);
+    }
     executorService.shutdownNow();
   }
 }
@@ -67,6 +67,15 @@ public interface Store<T> {
    */
   List<String> listKeys();
 
+  /**
+   * Returns the number of items in the store, without listing them.
+   *
+   * @return number of items
+   */
+  default int size() {
+    return listKeys().size();
+  }
+
   /**
    * Returns the requested item.
    *
@@ -19,24 +19,29 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedInformerEventListener;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.Controller;
 import io.fabric8.kubernetes.client.informers.cache.DeltaFIFO;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.InformerSnapshot;
 import io.fabric8.kubernetes.client.informers.cache.ProcessorListener;
 import io.fabric8.kubernetes.client.informers.cache.SharedProcessor;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.util.AbstractMap;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 public class DefaultSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>> implements SharedIndexInformer<T> {
   private static final Logger log = LoggerFactory.getLogger(DefaultSharedIndexInformer.class);
@@ -56,21 +61,31 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   private SharedProcessor<T> processor;
 
+  private DeltaFIFO<T> fifo;
+
+  private Class<T> apiTypeClass;
+
   private Controller<T, L> controller;
 
   private Thread controllerThread;
 
+  private int eventQueueCapacity;
+
+  private OverflowPolicy eventQueueOverflowPolicy = OverflowPolicy.BLOCK;
+
   private volatile boolean started = false;
   private volatile boolean stopped = false;
+  private boolean transformed = false;
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod, OperationContext context, ConcurrentLinkedQueue<SharedInformerEventListener> eventListeners) {
+    this.apiTypeClass = apiTypeClass;
     this.resyncCheckPeriodMillis = resyncPeriod;
     this.defaultEventHandlerResyncPeriod = resyncPeriod;
 
     this.processor = new SharedProcessor<>();
     this.indexer = new Cache();
 
-    DeltaFIFO<T> fifo = new DeltaFIFO<>(Cache::metaNamespaceKeyFunc, this.indexer);
+    this.fifo = new DeltaFIFO<>(Cache::metaNamespaceKeyFunc, this.indexer);
 
     this.controller = new Controller<>(apiTypeClass, fifo, listerWatcher, this::handleDeltas, processor::shouldResync, resyncCheckPeriodMillis, context, eventListeners);
     controllerThread = new Thread(controller::run, "informer-controller-" + apiTypeClass.getSimpleName());
@@ -113,6 +128,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
 
     ProcessorListener<T> listener = new ProcessorListener(handler, determineResyncPeriod(resyncCheckPeriodMillis, this.resyncCheckPeriodMillis));
+    listener.setQueueLimit(eventQueueCapacity, eventQueueOverflowPolicy);
     if (!started) {
       this.processor.addListener(listener);
       return;
@@ -152,10 +168,10 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
 
     stopped = true;
+    // first, as the controller may be waiting for room in a full handler queue
+    processor.stop();
     controller.stop();
     controllerThread.interrupt();
-
-    processor.stop();
   }
 
   @Override
@@ -163,6 +179,20 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return controller != null && this.controller.hasSynced();
   }
 
+  /**
+   * @return true once the informer has been run, until it is stopped
+   */
+  public boolean isRunning() {
+    return started && !stopped;
+  }
+
+  /**
+   * @return true if the informer caches transformed objects, see {@link #setTransform(UnaryOperator)}
+   */
+  public boolean isTransformed() {
+    return transformed;
+  }
+
   /**
    * Handles deltas and call processor distribute
    *
@@ -188,7 +218,8 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
             this.processor.distribute(new ProcessorListener.UpdateNotification(oldObj, delta.getValue()), isSync);
           } else {
             this.indexer.add((T) delta.getValue());
-            this.processor.distribute(new ProcessorListener.AddNotification(delta.getValue()), isSync);
+            // an object which wasn't known yet has to reach every listener, not only the ones being resynced
+            this.processor.distribute(new ProcessorListener.AddNotification(delta.getValue()), false);
           }
           break;
         case DELETION:
@@ -201,6 +232,76 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
   }
 
+  @Override
+  public void setListLimit(Long listLimit) {
+    if (started) {
+      throw new IllegalStateException("Cannot set the list limit of a running informer.");
+    }
+    controller.setListLimit(listLimit);
+  }
+
+  @Override
+  public void setResyncFromCache(boolean resyncFromCache) {
+    if (started) {
+      throw new IllegalStateException("Cannot change the resync mode of a running informer.");
+    }
+    controller.setResyncFromCache(resyncFromCache);
+  }
+
+  @Override
+  public void setCompactUpdates(boolean compactUpdates) {
+    if (started) {
+      throw new IllegalStateException("Cannot change the update compaction of a running informer.");
+    }
+    fifo.setCompactUpdates(compactUpdates);
+  }
+
+  @Override
+  public void setIndexer(Indexer<T> indexer) {
+    if (started) {
+      throw new IllegalStateException("Cannot change the indexer of a running informer.");
+    }
+    Map<String, Function<T, List<String>>> added = new HashMap<>(this.indexer.getIndexers());
+    added.keySet().removeAll(indexer.getIndexers().keySet());
+    if (!added.isEmpty()) {
+      indexer.addIndexers(added);
+    }
+    this.indexer = indexer;
+    fifo.setKnownObjects(indexer);
+  }
+
+  @Override
+  public void setTransform(UnaryOperator<T> transform) {
+    if (started) {
+      throw new IllegalStateException("Cannot set the transform of a running informer.");
+    }
+    fifo.setTransform(transform);
+    this.transformed = transform != null;
+  }
+
+  @Override
+  public void setSnapshot(File file, long periodMillis) {
+    if (started) {
+      throw new IllegalStateException("Cannot set the snapshot of a running informer.");
+    }
+    controller.setSnapshot(new InformerSnapshot<>(file, apiTypeClass), periodMillis);
+  }
+
+  @Override
+  public void setEventQueueLimit(int queueCapacity, OverflowPolicy overflowPolicy) {
+    if (started) {
+      throw new IllegalStateException("Cannot change the event queues of a running informer.");
+    }
+    this.eventQueueCapacity = queueCapacity;
+    this.eventQueueOverflowPolicy = overflowPolicy;
+    processor.setQueueLimit(queueCapacity, overflowPolicy);
+  }
+
+  @Override
+  public List<ProcessorListener.Metrics> getEventHandlerMetrics() {
+    return processor.getMetrics();
+  }
+
   @Override
   public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
     if (started) {
@@ -15,13 +15,19 @@
  */
 package io.fabric8.kubernetes.client.internal;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.internal.patchmixins.BuildMixIn;
 import io.fabric8.kubernetes.client.internal.patchmixins.ObjectMetaMixIn;
 import io.fabric8.openshift.api.model.Build;
 
+import java.util.Iterator;
+import java.util.Map;
+
 public class PatchUtils {
   private static class SingletonHolder {
     public static final ObjectMapper patchMapper;
@@ -37,4 +43,82 @@ public class PatchUtils {
   public static ObjectMapper patchMapper() {
     return SingletonHolder.patchMapper;
   }
+
+  /**
+   * Computes the JSON merge patch (RFC 7386) turning source into target in a single pass over both trees.
+   * Objects are compared field by field, any other value that changed (arrays included) is replaced as a whole
+   * and fields missing from target are removed.
+   *
+   * @param source the original state
+   * @param target the desired state
+   * @return the merge patch, empty if both are equal
+   */
+  public static ObjectNode jsonMergePatch(JsonNode source, JsonNode target) {
+    ObjectNode patch = JsonNodeFactory.instance.objectNode();
+    Iterator<String> sourceNames = source.fieldNames();
+    while (sourceNames.hasNext()) {
+      String name = sourceNames.next();
+      if (!target.has(name)) {
+        patch.putNull(name);
+      }
+    }
+    Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+    while (targetFields.hasNext()) {
+      Map.Entry<String, JsonNode> field = targetFields.next();
+      JsonNode sourceValue = source.get(field.getKey());
+      JsonNode targetValue = field.getValue();
+      if (sourceValue != null && sourceValue.isObject() && targetValue.isObject()) {
+        ObjectNode nested = jsonMergePatch(sourceValue, targetValue);
+        if (nested.size() > 0) {
+          patch.set(field.getKey(), nested);
+        }
+      } else if (!targetValue.equals(sourceValue)) {
+        patch.set(field.getKey(), targetValue);
+      }
+    }
+    return patch;
+  }
+
+  /**
+   * Applies a JSON merge patch (RFC 7386) to a copy of target.
+   *
+   * @param target the state to patch, left untouched
+   * @param patch the merge patch
+   * @return the patched state
+   */
+  public static JsonNode applyMergePatch(JsonNode target, JsonNode patch) {
+    if (!patch.isObject()) {
+      return patch;
+    }
+    ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy() : JsonNodeFactory.instance.objectNode();
+    Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (field.getValue().isNull()) {
+        result.remove(field.getKey());
+      } else {
+        result.set(field.getKey(), applyMergePatch(result.get(field.getKey()), field.getValue()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether a merge patch replaces an array anywhere in the tree. Merge patches can't address single array
+   * elements, so such a patch overwrites the whole array with the client's copy and should only apply to the
+   * version it was computed from.
+   *
+   * @param patch the merge patch
+   * @return true if any value of the patch is an array
+   */
+  public static boolean replacesArray(JsonNode patch) {
+    Iterator<JsonNode> values = patch.elements();
+    while (values.hasNext()) {
+      JsonNode value = values.next();
+      if (value.isArray() || (value.isObject() && replacesArray(value))) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -176,6 +176,10 @@ public class HttpClientUtils {
               httpClientBuilder.dispatcher(dispatcher);
             }
 
+            if (config.getQps() > 0) {
+              httpClientBuilder.addInterceptor(new RateLimitInterceptor(new RateLimiter(config.getQps(), config.getBurst())));
+            }
+
             // Only check proxy if it's a full URL with protocol
             if (config.getMasterUrl().toLowerCase(Locale.ROOT).startsWith(Config.HTTP_PROTOCOL_PREFIX) || config.getMasterUrl().startsWith(Config.HTTPS_PROTOCOL_PREFIX)) {
                 try {
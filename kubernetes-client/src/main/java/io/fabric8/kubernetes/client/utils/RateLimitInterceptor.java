@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.utils.RateLimiter.Lane;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the requests of a client through a {@link RateLimiter}.
+ *
+ * Requests tagged with a {@link Lane}, see {@link #inLane(OkHttpClient, Lane)}, go in that lane. Otherwise lease
+ * requests of the coordination API go in the {@link Lane#LEADER_ELECTION} lane, watches in the {@link Lane#WATCH} lane
+ * and the remaining requests, reads and writes alike, in the {@link Lane#DEFAULT} lane.
+ *
+ * A 429 response carrying a Retry-After header pauses the rate limiter for the given time, after which the request is
+ * retried, up to {@value #MAX_RETRIES} times.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+  static final int MAX_RETRIES = 10;
+
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final String LEASES_PATH = "/apis/coordination.k8s.io/";
+
+  private final RateLimiter rateLimiter;
+
+  public RateLimitInterceptor(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * @param client the client to look at
+   * @return the rate limiter the given client is throttled by, null if it isn't
+   */
+  public static RateLimiter getRateLimiter(OkHttpClient client) {
+    for (Interceptor interceptor : client.interceptors()) {
+      if (interceptor instanceof RateLimitInterceptor) {
+        return ((RateLimitInterceptor) interceptor).rateLimiter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Throttles all requests of the returned client in the given lane, e.g. {@link Lane#BULK} for the requests of a bulk
+   * operation so they don't hold up the other requests of the application.
+   *
+   * @param client the client to derive from
+   * @param lane the lane to throttle the requests in
+   * @return a client sharing the connections and the rate limiter of the given one, the given client if it isn't
+   * throttled
+   */
+  public static OkHttpClient inLane(OkHttpClient client, Lane lane) {
+    if (getRateLimiter(client) == null) {
+      return client;
+    }
+    OkHttpClient.Builder builder = client.newBuilder();
+    // runs before the rate limit interceptor, which looks up the tag
+    builder.interceptors().add(0, chain -> chain.proceed(chain.request().newBuilder().tag(Lane.class, lane).build()));
+    return builder.build();
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    Lane lane = laneOf(request);
+    for (int retries = 0; ; retries++) {
+      try {
+        rateLimiter.acquire(lane);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the rate limiter");
+      }
+      Response response = chain.proceed(request);
+      if (response.code() != TOO_MANY_REQUESTS || retries >= MAX_RETRIES) {
+        return response;
+      }
+      long retryAfterSeconds = retryAfterSeconds(response);
+      if (retryAfterSeconds < 0) {
+        return response;
+      }
+      response.close();
+      rateLimiter.pause(retryAfterSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  static Lane laneOf(Request request) {
+    Lane tagged = request.tag(Lane.class);
+    if (tagged != null) {
+      return tagged;
+    }
+    if (request.url().encodedPath().startsWith(LEASES_PATH)) {
+      return Lane.LEADER_ELECTION;
+    }
+    if ("true".equals(request.url().queryParameter("watch"))) {
+      return Lane.WATCH;
+    }
+    return Lane.DEFAULT;
+  }
+
+  private static long retryAfterSeconds(Response response) {
+    String retryAfter = response.header("Retry-After");
+    if (retryAfter == null) {
+      return -1;
+    }
+    try {
+      return Math.max(0, Long.parseLong(retryAfter.trim()));
+    } catch (NumberFormatException e) {
+      // the http date form isn't used by the api server
+      return -1;
+    }
+  }
+}
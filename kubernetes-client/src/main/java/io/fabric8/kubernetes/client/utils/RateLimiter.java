@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket handing out at most {@code qps} permits a second, with up to {@code burst} permits saved up
+ * while idle.
+ *
+ * Callers queue in {@link Lane}s: whenever a permit becomes available it goes to the most important lane that
+ * has callers waiting, so lease renewals and watches don't starve behind a flood of requests. Only the
+ * {@link Lane#BULK} lane, meant for explicitly marked bulk operations, can be starved by the lanes above it.
+ */
+public class RateLimiter {
+
+  /**
+   * The lanes in order of priority, the first being the most important one.
+   */
+  public enum Lane {
+    LEADER_ELECTION,
+    WATCH,
+    DEFAULT,
+    BULK
+  }
+
+  private static final Lane[] LANES = Lane.values();
+
+  private final double nanosPerPermit;
+  private final int burst;
+
+  private double permits;
+  private long lastRefill;
+  private long pausedUntil;
+
+  private final int[] waiting = new int[LANES.length];
+  private final long[] acquired = new long[LANES.length];
+  private final long[] totalWaitNanos = new long[LANES.length];
+  private final long[] maxWaitNanos = new long[LANES.length];
+
+  public RateLimiter(float qps, int burst) {
+    if (qps <= 0) {
+      throw new IllegalArgumentException("qps must be positive");
+    }
+    this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / (double) qps;
+    this.burst = Math.max(1, burst);
+    this.permits = this.burst;
+    this.lastRefill = System.nanoTime();
+    this.pausedUntil = lastRefill;
+  }
+
+  /**
+   * Blocks until a permit is handed to the given lane.
+   *
+   * @param lane the lane to queue in
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void acquire(Lane lane) throws InterruptedException {
+    long start = System.nanoTime();
+    synchronized (this) {
+      waiting[lane.ordinal()]++;
+      try {
+        while (true) {
+          long now = System.nanoTime();
+          refill(now);
+          long waitNanos;
+          if (now - pausedUntil < 0) {
+            waitNanos = pausedUntil - now;
+          } else if (permits < 1) {
+            waitNanos = (long) Math.ceil((1 - permits) * nanosPerPermit);
+          } else if (moreImportantWaiting(lane)) {
+            // the permit goes to the more important lane, which will wake us once it took it
+            waitNanos = (long) nanosPerPermit;
+          } else {
+            permits -= 1;
+            break;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, 1));
+        }
+      } finally {
+        waiting[lane.ordinal()]--;
+        notifyAll();
+      }
+      long waited = System.nanoTime() - start;
+      acquired[lane.ordinal()]++;
+      totalWaitNanos[lane.ordinal()] += waited;
+      maxWaitNanos[lane.ordinal()] = Math.max(maxWaitNanos[lane.ordinal()], waited);
+    }
+  }
+
+  /**
+   * Stops handing out permits for the given time, e.g. because the server asked us to retry after it.
+   *
+   * @param duration the time to pause for
+   * @param unit the unit of the duration
+   */
+  public synchronized void pause(long duration, TimeUnit unit) {
+    long until = System.nanoTime() + unit.toNanos(duration);
+    if (until - pausedUntil > 0) {
+      pausedUntil = until;
+    }
+  }
+
+  /**
+   * @param lane the lane
+   * @return the number of callers currently waiting for a permit in the given lane
+   */
+  public synchronized int getWaiting(Lane lane) {
+    return waiting[lane.ordinal()];
+  }
+
+  /**
+   * @param lane the lane
+   * @return the number of permits handed to the given lane so far
+   */
+  public synchronized long getAcquired(Lane lane) {
+    return acquired[lane.ordinal()];
+  }
+
+  /**
+   * @param lane the lane
+   * @param unit the unit of the returned time
+   * @return the time callers in the given lane have waited for their permits in total
+   */
+  public synchronized long getTotalWaitTime(Lane lane, TimeUnit unit) {
+    return unit.convert(totalWaitNanos[lane.ordinal()], TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param lane the lane
+   * @param unit the unit of the returned time
+   * @return the longest time a caller in the given lane has waited for its permit
+   */
+  public synchronized long getMaxWaitTime(Lane lane, TimeUnit unit) {
+    return unit.convert(maxWaitNanos[lane.ordinal()], TimeUnit.NANOSECONDS);
+  }
+
+  private void refill(long now) {
+    permits = Math.min(burst, permits + (now - lastRefill) / nanosPerPermit);
+    lastRefill = now;
+  }
+
+  private boolean moreImportantWaiting(Lane lane) {
+    for (int i = 0; i < lane.ordinal(); i++) {
+      if (waiting[i] > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
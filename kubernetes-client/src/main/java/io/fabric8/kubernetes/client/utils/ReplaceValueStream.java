@@ -15,20 +15,37 @@
  */
 package io.fabric8.kubernetes.client.utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 
-import static io.fabric8.kubernetes.client.utils.Utils.interpolateString;
-
 /**
  * Replaces template parameter values in the stream to avoid
- * parsing issues of templates with numeric expressions
+ * parsing issues of templates with numeric expressions.
+ *
+ * The expressions ${NAME}, ${{NAME}} and "${{NAME}}" (quotes included) are replaced in a single pass
+ * while the stream is read, the same way {@link Utils#interpolateString(String, Map)} replaces them in a String.
+ * Only a window of the size of the longest parameter name is held in memory besides the read buffer.
+ * Replaced values aren't scanned for expressions again.
  */
-public class ReplaceValueStream {
-  private final Map<String, String> valuesMap;
+public class ReplaceValueStream extends InputStream {
+  private static final int BUFFER_SIZE = 8192;
+  // quote, dollar, two braces, closing braces and quote around the name
+  private static final int EXPRESSION_OVERHEAD = 7;
+
+  private final InputStream in;
+  private final Map<String, byte[]> values;
+  private final int maxNameLength;
+  private final byte[] buffer;
+  private final byte[] single = new byte[1];
+  private int position;
+  private int limit;
+  private boolean eof;
+
+  private byte[] pending;
+  private int pendingPosition;
 
   /**
    * Returns a stream with the template parameter expressions replaced
@@ -38,15 +55,163 @@ public class ReplaceValueStream {
    * @return returns stream with template parameter expressions replaced
    */
   public static InputStream replaceValues(InputStream is, Map<String, String> valuesMap) throws IOException {
-    return new ReplaceValueStream(valuesMap).createInputStream(is);
+    return new ReplaceValueStream(is, valuesMap);
+  }
+
+  private ReplaceValueStream(InputStream in, Map<String, String> valuesMap) {
+    this.in = in;
+    this.values = new HashMap<>();
+    int longest = 0;
+    if (valuesMap != null) {
+      for (Map.Entry<String, String> entry : valuesMap.entrySet()) {
+        if (entry.getKey() != null && entry.getValue() != null) {
+          values.put(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+          longest = Math.max(longest, entry.getKey().getBytes(StandardCharsets.UTF_8).length);
+        }
+      }
+    }
+    this.maxNameLength = longest;
+    this.buffer = new byte[Math.max(BUFFER_SIZE, 2 * (maxNameLength + EXPRESSION_OVERHEAD))];
+  }
+
+  @Override
+  public int read() throws IOException {
+    int read = read(single, 0, 1);
+    return read == -1 ? -1 : single[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    int written = 0;
+    while (written < len) {
+      if (pending != null) {
+        int count = Math.min(len - written, pending.length - pendingPosition);
+        System.arraycopy(pending, pendingPosition, b, off + written, count);
+        written += count;
+        pendingPosition += count;
+        if (pendingPosition == pending.length) {
+          pending = null;
+        }
+        continue;
+      }
+      if (position == limit && !fill(1)) {
+        break;
+      }
+      byte current = buffer[position];
+      if (current == '$' || current == '"') {
+        fill(maxNameLength + EXPRESSION_OVERHEAD);
+        int expressionLength = matchExpression();
+        if (expressionLength > 0) {
+          position += expressionLength;
+          continue;
+        }
+        b[off + written++] = current;
+        position++;
+        continue;
+      }
+      // copy everything up to the next possible expression as is
+      int end = position + 1;
+      int max = Math.min(limit, position + len - written);
+      while (end < max && buffer[end] != '$' && buffer[end] != '"') {
+        end++;
+      }
+      System.arraycopy(buffer, position, b, off + written, end - position);
+      written += end - position;
+      position = end;
+    }
+    return written == 0 ? -1 : written;
   }
 
-  private ReplaceValueStream(Map<String, String> valuesMap) {
-    this.valuesMap = valuesMap;
+  @Override
+  public int available() throws IOException {
+    return (pending != null ? pending.length - pendingPosition : 0) + limit - position;
   }
 
-  private InputStream createInputStream(InputStream is) throws IOException {
-      return new ByteArrayInputStream(
-        interpolateString(IOHelpers.readFully(is), valuesMap).getBytes(StandardCharsets.UTF_8));
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Makes at least the given number of bytes available in the buffer, unless the end of the stream is reached.
+   *
+   * @return whether there's anything left to read
+   */
+  private boolean fill(int required) throws IOException {
+    if (limit - position < required && !eof) {
+      if (position > 0) {
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = 0;
+      }
+      while (limit < required && !eof) {
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+          eof = true;
+        } else {
+          limit += read;
+        }
+      }
+    }
+    return position < limit;
+  }
+
+  /**
+   * Checks whether a parameter expression with a known name starts at the current position,
+   * and if so queues its value.
+   *
+   * @return the length of the expression, 0 if there's none
+   */
+  private int matchExpression() {
+    int i = position;
+    boolean quoted = buffer[i] == '"';
+    if (quoted) {
+      i++;
+    }
+    if (i + 1 >= limit || buffer[i] != '$' || buffer[i + 1] != '{') {
+      return 0;
+    }
+    i += 2;
+    boolean doubleBraces = i < limit && buffer[i] == '{';
+    if (doubleBraces) {
+      i++;
+    } else if (quoted) {
+      return 0;
+    }
+    int nameStart = i;
+    while (i < limit && buffer[i] != '}') {
+      if (i - nameStart >= maxNameLength) {
+        return 0;
+      }
+      i++;
+    }
+    if (i >= limit) {
+      return 0;
+    }
+    byte[] value = values.get(new String(buffer, nameStart, i - nameStart, StandardCharsets.UTF_8));
+    if (value == null) {
+      return 0;
+    }
+    i++;
+    if (doubleBraces) {
+      if (i >= limit || buffer[i] != '}') {
+        return 0;
+      }
+      i++;
+    }
+    if (quoted) {
+      if (i >= limit || buffer[i] != '"') {
+        return 0;
+      }
+      i++;
+    }
+    if (value.length > 0) {
+      pending = value;
+      pendingPosition = 0;
+    }
+    return i - position;
   }
 }
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks one at a time, in submission order, on a shared scheduler. It gives the
+ * guarantees of a single threaded executor without owning a thread. Tasks which block,
+ * e.g. on requests, run on a separate shared executor so they can't starve the scheduler,
+ * which then only times the delayed tasks.
+ */
+public class SerialExecutor implements Executor {
+  private static final Logger logger = LoggerFactory.getLogger(SerialExecutor.class);
+
+  private final Executor executor;
+  private final ScheduledExecutorService scheduler;
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final Set<ScheduledFuture<?>> delayedTasks = new HashSet<>();
+  private Runnable active;
+  private boolean shutdown;
+
+  public SerialExecutor(ScheduledExecutorService scheduler) {
+    this(scheduler, scheduler);
+  }
+
+  /**
+   * @param executor executor running the tasks
+   * @param scheduler scheduler timing the delayed tasks
+   */
+  public SerialExecutor(Executor executor, ScheduledExecutorService scheduler) {
+    this.executor = executor;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public synchronized void execute(Runnable task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    tasks.add(() -> {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        logger.warn("Task failed", e);
+      } finally {
+        scheduleNext();
+      }
+    });
+    if (active == null) {
+      scheduleNext();
+    }
+  }
+
+  /**
+   * Runs the task after the delay, in order with the other tasks of this executor.
+   *
+   * @param task the task
+   * @param delay the delay
+   * @param unit unit of the delay
+   * @throws RejectedExecutionException if the executor has been shut down
+   */
+  public synchronized void schedule(Runnable task, long delay, TimeUnit unit) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down");
+    }
+    ScheduledFuture<?>[] future = new ScheduledFuture<?>[1];
+    future[0] = scheduler.schedule(() -> {
+      synchronized (SerialExecutor.this) {
+        delayedTasks.remove(future[0]);
+        if (!shutdown) {
+          execute(task);
+        }
+      }
+    }, delay, unit);
+    if (!future[0].isDone()) {
+      delayedTasks.add(future[0]);
+    }
+  }
+
+  private synchronized void scheduleNext() {
+    active = shutdown ? null : tasks.poll();
+    if (active != null) {
+      try {
+        executor.execute(active);
+      } catch (RejectedExecutionException e) {
+        logger.debug("Shared executor rejected the task, dropping the pending tasks", e);
+        shutdown();
+      }
+    }
+  }
+
+  /**
+   * Drops the pending and delayed tasks and rejects new ones. A task which is already
+   * running completes.
+   */
+  public synchronized void shutdown() {
+    shutdown = true;
+    tasks.clear();
+    active = null;
+    for (ScheduledFuture<?> delayedTask : delayedTasks) {
+      delayedTask.cancel(false);
+    }
+    delayedTasks.clear();
+  }
+
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+}
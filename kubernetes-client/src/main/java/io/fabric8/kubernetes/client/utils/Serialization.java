@@ -17,35 +17,43 @@ package io.fabric8.kubernetes.client.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Serialization {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(Serialization.class);
+
   private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
   static {
     JSON_MAPPER.registerModule(new JavaTimeModule());
   }
   private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
-  private static final String DOCUMENT_DELIMITER = "---";
 
   public static ObjectMapper jsonMapper() {
     return JSON_MAPPER;
@@ -94,11 +102,92 @@ public class Serialization {
    */
   @SuppressWarnings("unchecked")
   public static <T> T unmarshal(InputStream is, Map<String, String> parameters) {
-    String specFile = readSpecFileFromInputStream(is);
-    if (containsMultipleDocuments(specFile)) {
-      return (T) getKubernetesResourceList(parameters, specFile);
+    try (Stream<KubernetesResource> documents = unmarshalDocuments(is, parameters)) {
+      Iterator<KubernetesResource> iterator = documents.iterator();
+      if (!iterator.hasNext()) {
+        return null;
+      }
+      KubernetesResource first = iterator.next();
+      if (!iterator.hasNext()) {
+        return (T) first;
+      }
+      List<KubernetesResource> resources = new ArrayList<>();
+      resources.add(first);
+      iterator.forEachRemaining(resources::add);
+      return (T) resources;
+    }
+  }
+
+  /**
+   * Lazily unmarshals a stream of YAML documents (separated by ---) or of concatenated JSON documents, optionally
+   * performing placeholder substitution to the stream. Each document is only read once the returned stream gets to it,
+   * so neither the whole input nor all of its resources have to be held in memory at once. Empty documents are skipped.
+   *
+   * The returned stream should be closed, which closes the {@link InputStream}.
+   *
+   * @param is          The {@link InputStream}.
+   * @param parameters  A {@link Map} with parameters for placeholder substitution.
+   * @return the de-serialized documents
+   * @throws KubernetesClientException KubernetesClientException
+   */
+  public static Stream<KubernetesResource> unmarshalDocuments(InputStream is, Map<String, String> parameters) {
+    try {
+      InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
+      BufferedInputStream bis = new BufferedInputStream(wrapped);
+      ObjectMapper mapper = startsWithJsonObject(bis) ? JSON_MAPPER : YAML_MAPPER;
+      MappingIterator<KubernetesResource> documents = mapper.readerFor(KubernetesResource.class).readValues(bis);
+      Iterator<KubernetesResource> iterator = new Iterator<KubernetesResource>() {
+        @Override
+        public boolean hasNext() {
+          try {
+            return documents.hasNextValue();
+          } catch (IOException e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }
+
+        @Override
+        public KubernetesResource next() {
+          try {
+            return documents.nextValue();
+          } catch (IOException e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        }
+      };
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .filter(Objects::nonNull)
+        .onClose(() -> {
+          try {
+            documents.close();
+          } catch (IOException e) {
+            throw KubernetesClientException.launderThrowable(e);
+          }
+        });
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
     }
-    return unmarshal(new ByteArrayInputStream(specFile.getBytes()), JSON_MAPPER, parameters);
+  }
+
+  /**
+   * Lazily unmarshals the resources of a stream of YAML or JSON documents, see {@link #unmarshalDocuments(InputStream, Map)}.
+   * Documents holding a list are flattened into their items, other documents which aren't resources are skipped with a warning.
+   *
+   * @param is          The {@link InputStream}.
+   * @param parameters  A {@link Map} with parameters for placeholder substitution.
+   * @return the de-serialized resources
+   * @throws KubernetesClientException KubernetesClientException
+   */
+  public static Stream<HasMetadata> unmarshalItems(InputStream is, Map<String, String> parameters) {
+    return unmarshalDocuments(is, parameters).flatMap(document -> {
+      if (document instanceof KubernetesResourceList) {
+        return ((KubernetesResourceList<?>) document).getItems().stream().map(HasMetadata.class::cast);
+      } else if (document instanceof HasMetadata) {
+        return Stream.of((HasMetadata) document);
+      }
+      LOGGER.warn("Skipping a document of type {} which is neither a resource nor a list of resources", document.getClass().getName());
+      return Stream.empty();
+    });
   }
 
   /**
@@ -125,14 +214,7 @@ public class Serialization {
       InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
       BufferedInputStream bis = new BufferedInputStream(wrapped)
     ) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
-      if (intch != '{') {
+      if (!startsWithJsonObject(bis)) {
         mapper = YAML_MAPPER;
       }
       return mapper.readerFor(KubernetesResource.class).readValue(bis);
@@ -232,15 +314,8 @@ public class Serialization {
       InputStream wrapped = parameters != null && !parameters.isEmpty() ? ReplaceValueStream.replaceValues(is, parameters) : is;
       BufferedInputStream bis = new BufferedInputStream(wrapped)
     ) {
-      bis.mark(-1);
-      int intch;
-      do {
-        intch = bis.read();
-      } while (intch > -1 && Character.isWhitespace(intch));
-      bis.reset();
-
       ObjectMapper mapper = JSON_MAPPER;
-      if (intch != '{') {
+      if (!startsWithJsonObject(bis)) {
         mapper = YAML_MAPPER;
       }
       return mapper.readValue(bis, type);
@@ -250,52 +325,13 @@ public class Serialization {
   }
 
 
-  private static List<KubernetesResource> getKubernetesResourceList(Map<String, String> parameters, String specFile) {
-    return splitSpecFile(specFile).stream().filter(Serialization::validate)
-      .map(document ->
-        (KubernetesResource)Serialization.unmarshal(new ByteArrayInputStream(document.getBytes()), parameters))
-      .collect(Collectors.toList());
-  }
-
-  static boolean containsMultipleDocuments(String specFile) {
-    final long validDocumentCount = splitSpecFile(specFile).stream().filter(Serialization::validate)
-      .count();
-    return validDocumentCount > 1;
-  }
-
-  private static List<String> splitSpecFile(String aSpecFile) {
-    final List<String> documents = new ArrayList<>();
-    final StringBuilder documentBuilder = new StringBuilder();
-    for (String line : aSpecFile.split("\r?\n")) {
-      if (line.startsWith(DOCUMENT_DELIMITER)) {
-        documents.add(documentBuilder.toString());
-        documentBuilder.setLength(0);
-      } else {
-        documentBuilder.append(line).append(System.lineSeparator());
-      }
-    }
-    if (documentBuilder.length() > 0) {
-      documents.add(documentBuilder.toString());
-    }
-    return documents;
-  }
-
-  private static boolean validate(String document) {
-    Matcher keyValueMatcher = Pattern.compile("(\\S+):\\s(\\S*)(?:\\b(?!:)|$)").matcher(document);
-    return !document.isEmpty() && keyValueMatcher.find();
-  }
-
-  private static String readSpecFileFromInputStream(InputStream inputStream) {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    byte[] buffer = new byte[1024];
-    int length;
-    try {
-      while ((length = inputStream.read(buffer)) != -1) {
-        outputStream.write(buffer, 0, length);
-      }
-      return outputStream.toString();
-    } catch (IOException e) {
-      throw new RuntimeException("Unable to read InputStream." + e);
-    }
+  private static boolean startsWithJsonObject(BufferedInputStream bis) throws IOException {
+    bis.mark(-1);
+    int intch;
+    do {
+      intch = bis.read();
+    } while (intch > -1 && Character.isWhitespace(intch));
+    bis.reset();
+    return intch == '{';
   }
 }
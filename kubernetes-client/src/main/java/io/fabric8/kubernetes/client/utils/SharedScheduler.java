@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the scheduler shared by the watches and informers of all the clients, so
+ * that each of them doesn't need threads of its own. Components needing their tasks
+ * to run in order wrap it with a {@link SerialExecutor}.
+ *
+ * The number of threads of the default scheduler can be set with the
+ * {@value #KUBERNETES_SCHEDULER_THREADS_SYSTEM_PROPERTY} system property or the
+ * matching environment variable. A different scheduler, e.g. one backed by virtual
+ * threads, can be installed with {@link #setScheduler(ScheduledExecutorService)}.
+ *
+ * Tasks which block for long, such as the list requests and watch restarts of informers,
+ * must not run on the scheduler, as a few of them would hold all of its threads and stall
+ * every watch of the JVM. They run on the {@link #getBlockingExecutor() blocking executor},
+ * whose threads are only kept while there is such work.
+ */
+public final class SharedScheduler {
+
+  public static final String KUBERNETES_SCHEDULER_THREADS_SYSTEM_PROPERTY = "kubernetes.scheduler.threads";
+
+  private static ScheduledExecutorService scheduler;
+  private static ExecutorService blockingExecutor;
+
+  private SharedScheduler() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Returns the shared scheduler, creating the default one on first use.
+   *
+   * @return the shared scheduler
+   */
+  public static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      int threads = Utils.getSystemPropertyOrEnvVar(KUBERNETES_SCHEDULER_THREADS_SYSTEM_PROPERTY,
+        Math.max(2, Runtime.getRuntime().availableProcessors()));
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, new DaemonThreadFactory());
+      executor.setRemoveOnCancelPolicy(true);
+      scheduler = executor;
+    }
+    return scheduler;
+  }
+
+  /**
+   * Replaces the shared scheduler. Only affects the watches and informers started afterwards,
+   * the previous scheduler isn't shut down.
+   *
+   * @param scheduledExecutorService the scheduler to use
+   */
+  public static synchronized void setScheduler(ScheduledExecutorService scheduledExecutorService) {
+    scheduler = Utils.checkNotNull(scheduledExecutorService, "scheduler cannot be null");
+  }
+
+  /**
+   * Returns the shared executor for tasks which block, creating it on first use. Its idle
+   * threads are discarded after a minute.
+   *
+   * @return the shared blocking executor
+   */
+  public static synchronized ExecutorService getBlockingExecutor() {
+    if (blockingExecutor == null) {
+      blockingExecutor = Executors.newCachedThreadPool(new DaemonThreadFactory("kubernetes-client-blocking-"));
+    }
+    return blockingExecutor;
+  }
+
+  /**
+   * Creates an executor running its tasks one at a time, in order, on the shared scheduler.
+   *
+   * @return a new serial executor
+   */
+  public static SerialExecutor newSerialExecutor() {
+    return new SerialExecutor(getScheduler());
+  }
+
+  /**
+   * Creates an executor running its tasks one at a time, in order, on the shared blocking
+   * executor. Its delayed tasks are timed by the shared scheduler.
+   *
+   * @return a new serial executor for tasks which block
+   */
+  public static SerialExecutor newBlockingSerialExecutor() {
+    return new SerialExecutor(getBlockingExecutor(), getScheduler());
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+    private final String prefix;
+
+    DaemonThreadFactory() {
+      this("kubernetes-client-scheduler-");
+    }
+
+    DaemonThreadFactory(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, prefix + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
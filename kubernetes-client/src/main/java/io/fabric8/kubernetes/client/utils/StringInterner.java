@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes equal strings to a single instance, so that the many objects of a cache which repeat the same
+ * namespaces, label keys and values or images share them instead of each holding a copy.
+ *
+ * The interner only holds its strings weakly, they are dropped once no object refers to them anymore, and holds at
+ * most {@code maxSize} of them: once full, strings not seen before are returned as they are.
+ */
+public class StringInterner {
+
+  // header and hash of the String plus header and length of its char array, as on a 64 bit JVM with compressed oops
+  private static final int STRING_OVERHEAD = 40;
+
+  private final int maxSize;
+  private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+
+  private long hits;
+  private long misses;
+  private long bytesSaved;
+
+  public StringInterner(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @param string the string to canonicalize, may be null
+   * @return the instance equal to the given string held by the interner, the given string if there's none
+   */
+  public synchronized String intern(String string) {
+    if (string == null) {
+      return null;
+    }
+    WeakReference<String> reference = strings.get(string);
+    String interned = reference != null ? reference.get() : null;
+    if (interned != null) {
+      if (interned != string) {
+        hits++;
+        bytesSaved += STRING_OVERHEAD + 2L * string.length();
+      }
+      return interned;
+    }
+    misses++;
+    if (strings.size() < maxSize) {
+      strings.put(string, new WeakReference<>(string));
+    }
+    return string;
+  }
+
+  /**
+   * @return number of strings replaced by an equal instance held by the interner
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * @return number of strings the interner held no equal instance of
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return estimate of the heap the strings replaced by their interned instance took, it can only be reclaimed once
+   * nothing else refers to them
+   */
+  public synchronized long getBytesSaved() {
+    return bytesSaved;
+  }
+
+  /**
+   * @return number of strings currently held
+   */
+  public synchronized int size() {
+    return strings.size();
+  }
+}
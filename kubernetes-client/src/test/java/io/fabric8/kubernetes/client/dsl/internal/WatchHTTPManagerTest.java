@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.WatchEvent;
+import okio.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchHTTPManagerTest {
+
+  @Test
+  void testReadWatchEventFromBytes() throws IOException {
+    WatchEvent event = WatchHTTPManager.readWatchEvent(ByteString.encodeUtf8(
+      "{\"type\":\"DELETED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\",\"resourceVersion\":\"12\"}}}"));
+
+    assertEquals("DELETED", event.getType());
+    assertTrue(event.getObject() instanceof Pod);
+    assertEquals("12", ((Pod) event.getObject()).getMetadata().getResourceVersion());
+  }
+
+  @Test
+  void testReadWatchEventIgnoresFieldOrderAndUnknownFields() throws IOException {
+    WatchEvent event = WatchHTTPManager.readWatchEvent(
+      "{\"extra\":{\"nested\":[1,2]},\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Status\",\"code\":410},\"type\":\"ERROR\"}");
+
+    assertEquals("ERROR", event.getType());
+    assertTrue(event.getObject() instanceof Status);
+    assertEquals(410, ((Status) event.getObject()).getCode().intValue());
+  }
+
+  @Test
+  void testReadWatchEventWithoutEnvelope() throws IOException {
+    String list = "{\"apiVersion\":\"v1\",\"kind\":\"PodList\",\"metadata\":{\"resourceVersion\":\"3\"},\"items\":[{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}}]}";
+
+    WatchEvent fromBytes = WatchHTTPManager.readWatchEvent(ByteString.encodeUtf8(list));
+    WatchEvent fromString = WatchHTTPManager.readWatchEvent(list);
+
+    assertEquals("MODIFIED", fromBytes.getType());
+    assertTrue(fromBytes.getObject() instanceof PodList);
+    assertEquals(1, ((PodList) fromBytes.getObject()).getItems().size());
+    assertEquals(fromBytes, fromString);
+  }
+}
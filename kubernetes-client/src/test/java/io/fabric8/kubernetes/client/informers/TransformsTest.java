@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.utils.StringInterner;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransformsTest {
+
+  @Test
+  void testStripManagedFieldsAndLastAppliedConfiguration() {
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod1")
+      .addNewManagedField().withManager("kubectl").endManagedField()
+      .addToAnnotations(Transforms.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+      .endMetadata().build();
+
+    Transforms.<Pod>allOf(Transforms.stripManagedFields(), Transforms.stripLastAppliedConfiguration()).apply(pod);
+
+    assertNull(pod.getMetadata().getManagedFields());
+    assertNull(pod.getMetadata().getAnnotations());
+  }
+
+  @Test
+  void testInternStrings() {
+    StringInterner interner = new StringInterner(100);
+    UnaryOperator<Pod> transform = Transforms.internStrings(interner);
+
+    Pod pod1 = transform.apply(pod("pod1"));
+    Pod pod2 = transform.apply(pod("pod2"));
+
+    assertSame(pod1.getMetadata().getNamespace(), pod2.getMetadata().getNamespace());
+    assertSame(pod1.getMetadata().getLabels().get("app"), pod2.getMetadata().getLabels().get("app"));
+    assertSame(pod1.getMetadata().getOwnerReferences().get(0).getUid(), pod2.getMetadata().getOwnerReferences().get(0).getUid());
+    assertSame(pod1.getSpec().getContainers().get(0).getImage(), pod2.getSpec().getContainers().get(0).getImage());
+    assertEquals("pod2", pod2.getMetadata().getName());
+    assertTrue(interner.getBytesSaved() > 0);
+  }
+
+  private static Pod pod(String name) {
+    // new strings for every pod, as the deserializer would create them
+    return new PodBuilder()
+      .withNewMetadata().withName(name).withNamespace(new String("default")).addToLabels(new String("app"), new String("web"))
+      .addNewOwnerReference().withKind(new String("ReplicaSet")).withName(new String("web-1")).withUid(new String("0c2a")).endOwnerReference()
+      .endMetadata()
+      .withNewSpec().addNewContainer().withName(new String("web")).withImage(new String("nginx:1.19")).endContainer().endSpec()
+      .build();
+  }
+}
@@ -15,17 +15,30 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 class CacheTest {
   private static Cache cache = new Cache("mock", CacheTest::mockIndexFunction, CacheTest::mockKeyFunction);
@@ -118,6 +131,185 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testIndexViews() {
+    Cache<Pod> podCache = new Cache<>();
+    podCache.add(new PodBuilder().withNewMetadata().withNamespace("ns1").withName("pod1").endMetadata().build());
+    podCache.add(new PodBuilder().withNewMetadata().withNamespace("ns1").withName("pod2").endMetadata().build());
+    podCache.add(new PodBuilder().withNewMetadata().withNamespace("ns2").withName("pod3").endMetadata().build());
+
+    assertEquals(2, podCache.countByIndex(Cache.NAMESPACE_INDEX, "ns1"));
+    assertEquals(0, podCache.countByIndex(Cache.NAMESPACE_INDEX, "ns3"));
+    assertEquals(2, podCache.streamByIndex(Cache.NAMESPACE_INDEX, "ns1").count());
+    assertEquals(3, podCache.stream().count());
+
+    List<String> names = new ArrayList<>();
+    podCache.forEachInIndex(Cache.NAMESPACE_INDEX, "ns2", pod -> names.add(pod.getMetadata().getName()));
+    assertEquals(Arrays.asList("pod3"), names);
+  }
+
+  @Test
+  void testByLabelSelector() {
+    Cache<Pod> podCache = new Cache<>();
+    podCache.add(labeledPod("ns1", "pod1", "app", "web", "tier", "a"));
+    podCache.add(labeledPod("ns1", "pod2", "app", "web", "tier", "b"));
+    podCache.add(labeledPod("ns1", "pod3", "app", "web", "tier", "c"));
+    podCache.add(labeledPod("ns2", "pod4", "app", "web", "tier", "a"));
+    podCache.add(labeledPod("ns1", "pod5", "app", "db"));
+
+    LabelSelector selector = new LabelSelectorBuilder()
+      .addToMatchLabels("app", "web")
+      .addNewMatchExpression().withKey("tier").withOperator("In").withValues("a", "b").endMatchExpression()
+      .build();
+    assertEquals(Arrays.asList("pod1", "pod2", "pod4"), names(podCache.byLabelSelector(null, selector)));
+    assertEquals(Arrays.asList("pod1", "pod2"), names(podCache.byLabelSelector("ns1", selector)));
+
+    assertEquals(Arrays.asList("pod3", "pod5"), names(podCache.byLabelSelector("ns1", new LabelSelectorBuilder()
+      .addNewMatchExpression().withKey("tier").withOperator("NotIn").withValues("a", "b").endMatchExpression()
+      .build())));
+    assertEquals(Arrays.asList("pod5"), names(podCache.byLabelSelector(null, new LabelSelectorBuilder()
+      .addNewMatchExpression().withKey("tier").withOperator("DoesNotExist").endMatchExpression()
+      .build())));
+    assertEquals(4, podCache.byLabelSelector(null, new LabelSelectorBuilder()
+      .addNewMatchExpression().withKey("tier").withOperator("Exists").endMatchExpression()
+      .build()).size());
+    assertEquals(5, podCache.byLabelSelector(null, null).size());
+    assertEquals(0, podCache.byLabelSelector(null, new LabelSelectorBuilder().addToMatchLabels("app", "cache").build()).size());
+  }
+
+  @Test
+  void testLabelIndexFollowsUpdates() {
+    Cache<Pod> podCache = new Cache<>();
+    LabelSelector web = new LabelSelectorBuilder().addToMatchLabels("app", "web").build();
+    podCache.add(labeledPod("ns1", "pod1", "app", "web"));
+    podCache.add(labeledPod("ns1", "pod2", "app", "web"));
+
+    podCache.update(labeledPod("ns1", "pod1", "app", "db"));
+    assertEquals(Arrays.asList("pod2"), names(podCache.byLabelSelector(null, web)));
+
+    podCache.delete(labeledPod("ns1", "pod2", "app", "web"));
+    assertEquals(0, podCache.byLabelSelector(null, web).size());
+
+    podCache.replace(Arrays.asList(labeledPod("ns1", "pod3", "app", "web")), "1");
+    assertEquals(Arrays.asList("pod3"), names(podCache.byLabelSelector(null, web)));
+  }
+
+  @Test
+  void testLabelIndexDropsEmptyPostings() {
+    Cache<Pod> podCache = new Cache<>();
+    podCache.add(labeledPod("ns1", "pod1", "app", "web"));
+    podCache.add(labeledPod("ns1", "pod2", "app", "web", "tier", "a"));
+
+    podCache.update(labeledPod("ns1", "pod2", "app", "db"));
+    assertEquals(new HashSet<>(Arrays.asList("web", "db")), podCache.labelValues("app"));
+    assertTrue(podCache.labelValues("tier").isEmpty());
+
+    podCache.delete(labeledPod("ns1", "pod1", "app", "web"));
+    assertEquals(Collections.singleton("db"), podCache.labelValues("app"));
+
+    podCache.delete(labeledPod("ns1", "pod2", "app", "db"));
+    assertTrue(podCache.labelValues("app").isEmpty());
+  }
+
+  @Test
+  void testByLabelSelectorWithRepeatedValues() {
+    Cache<Pod> podCache = new Cache<>();
+    podCache.add(labeledPod("ns1", "pod1", "tier", "a"));
+    podCache.add(labeledPod("ns1", "pod2", "tier", "b"));
+
+    assertEquals(Arrays.asList("pod1"), names(podCache.byLabelSelector(null, new LabelSelectorBuilder()
+      .addNewMatchExpression().withKey("tier").withOperator("In").withValues("a", "a").endMatchExpression()
+      .build())));
+  }
+
+  @Test
+  void testConcurrentReadsDuringWrites() throws Exception {
+    Cache<Pod> podCache = new Cache<>();
+    List<Pod> pods = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      pods.add(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod" + i).endMetadata().build());
+    }
+    podCache.replace(pods, "0");
+
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService readers = Executors.newFixedThreadPool(4);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      results.add(readers.submit(() -> {
+        while (writing.get()) {
+          for (Pod pod : podCache.byIndex(Cache.NAMESPACE_INDEX, "test")) {
+            assertNotNull(pod);
+          }
+          int size = podCache.list().size();
+          assertTrue(size >= 99 && size <= 100);
+          assertNotNull(podCache.getByKey("test/pod0"));
+        }
+      }));
+    }
+
+    for (int i = 0; i < 2000; i++) {
+      Pod pod = pods.get(1 + i % 99);
+      podCache.delete(pod);
+      podCache.add(pod);
+      if (i % 100 == 0) {
+        podCache.replace(pods, String.valueOf(i));
+      }
+    }
+    writing.set(false);
+    readers.shutdown();
+    assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+    for (Future<?> result : results) {
+      result.get();
+    }
+    assertEquals(100, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+  }
+
+  @Test
+  void testUpdatesKeepObjectsVisibleToReaders() throws Exception {
+    Cache<Pod> podCache = new Cache<>();
+    LabelSelector web = new LabelSelectorBuilder().addToMatchLabels("app", "web").build();
+    for (int i = 0; i < 10; i++) {
+      podCache.add(labeledPod("test", "pod" + i, "app", "web", "rev", "0"));
+    }
+
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService readers = Executors.newFixedThreadPool(2);
+    List<Future<?>> results = new ArrayList<>();
+    results.add(readers.submit(() -> {
+      while (writing.get()) {
+        assertEquals(10, podCache.byIndex(Cache.NAMESPACE_INDEX, "test").size());
+      }
+    }));
+    results.add(readers.submit(() -> {
+      while (writing.get()) {
+        assertEquals(10, podCache.byLabelSelector("test", web).size());
+      }
+    }));
+
+    for (int i = 0; i < 20000; i++) {
+      // only the rev label changes, the namespace and the app label stay
+      podCache.update(labeledPod("test", "pod" + (i % 10), "app", "web", "rev", String.valueOf(i % 3)));
+    }
+    writing.set(false);
+    readers.shutdown();
+    assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+    for (Future<?> result : results) {
+      result.get();
+    }
+  }
+
+  private static Pod labeledPod(String namespace, String name, String... labels) {
+    Map<String, String> labelMap = new HashMap<>();
+    for (int i = 0; i < labels.length; i += 2) {
+      labelMap.put(labels[i], labels[i + 1]);
+    }
+    return new PodBuilder().withNewMetadata().withNamespace(namespace).withName(name).withLabels(labelMap).endMetadata().build();
+  }
+
+  private static List<String> names(List<Pod> pods) {
+    return pods.stream().map(pod -> pod.getMetadata().getName()).sorted().collect(Collectors.toList());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Arrays.asList("null");
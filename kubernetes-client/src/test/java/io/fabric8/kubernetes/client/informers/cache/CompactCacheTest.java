@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompactCacheTest {
+
+  @Test
+  void testObjectsAreDecodedOnRead() {
+    for (boolean offHeap : new boolean[] { false, true }) {
+      Cache<Pod> cache = new CompactCache<>(Pod.class, offHeap, 0);
+      Pod pod = pod("pod1", "web");
+      cache.add(pod);
+
+      Pod read = cache.getByKey("ns1/pod1");
+      assertEquals(pod, read);
+      assertNotSame(pod, read);
+      assertEquals(1, cache.byIndex(Cache.NAMESPACE_INDEX, "ns1").size());
+      assertEquals(1, cache.list().size());
+
+      cache.delete(pod);
+      assertNull(cache.getByKey("ns1/pod1"));
+    }
+  }
+
+  @Test
+  void testRecentlyUsedObjectsStayDecoded() {
+    Cache<Pod> cache = new CompactCache<>(Pod.class, false, 1);
+    Pod pod1 = pod("pod1", "web");
+    cache.add(pod1);
+    assertSame(pod1, cache.getByKey("ns1/pod1"));
+
+    cache.add(pod("pod2", "web"));
+    Pod read = cache.getByKey("ns1/pod1");
+    assertNotSame(pod1, read);
+    assertSame(read, cache.getByKey("ns1/pod1"));
+  }
+
+  @Test
+  void testIndicesFollowUpdates() {
+    Cache<Pod> cache = new CompactCache<>(Pod.class, true, 0);
+    cache.replace(Arrays.asList(pod("pod1", "web"), pod("pod2", "web")), "1");
+    cache.update(pod("pod1", "db"));
+
+    assertEquals(1, cache.byLabelSelector("ns1", new LabelSelectorBuilder().addToMatchLabels("app", "web").build()).size());
+    assertEquals("db", cache.getByKey("ns1/pod1").getMetadata().getLabels().get("app"));
+  }
+
+  @Test
+  void testWritesDontDecodePreviousVersions() {
+    AtomicInteger decodes = new AtomicInteger();
+    Cache<Pod> cache = new CompactCache<Pod>(Pod.class, true, 0) {
+      @Override
+      protected Pod decode(Object stored) {
+        decodes.incrementAndGet();
+        return super.decode(stored);
+      }
+    };
+    cache.add(pod("pod1", "web"));
+    cache.update(pod("pod1", "db"));
+    cache.add(pod("pod2", "web"));
+    cache.delete(pod("pod2", "web"));
+    assertEquals(0, decodes.get());
+
+    assertEquals(0, cache.byLabelSelector("ns1", new LabelSelectorBuilder().addToMatchLabels("app", "web").build()).size());
+    assertEquals(1, cache.byLabelSelector("ns1", new LabelSelectorBuilder().addToMatchLabels("app", "db").build()).size());
+    assertEquals(Arrays.asList("ns1/pod1"), cache.indexKeys(Cache.NAMESPACE_INDEX, "ns1"));
+  }
+
+  @Test
+  void testCountDoesntDecode() {
+    AtomicInteger decodes = new AtomicInteger();
+    Cache<Pod> cache = new CompactCache<Pod>(Pod.class, true, 0) {
+      @Override
+      protected Pod decode(Object stored) {
+        decodes.incrementAndGet();
+        return super.decode(stored);
+      }
+    };
+    cache.add(pod("pod1", "web"));
+    cache.add(pod("pod2", "db"));
+
+    assertEquals(2, new Lister<>(cache).count());
+    assertEquals(0, decodes.get());
+  }
+
+  private static Pod pod(String name, String app) {
+    return new PodBuilder().withNewMetadata().withNamespace("ns1").withName(name).addToLabels("app", app).endMetadata()
+      .withNewSpec().addNewContainer().withName("main").withImage("nginx").endContainer().endSpec()
+      .build();
+  }
+}
@@ -17,11 +17,15 @@ package io.fabric8.kubernetes.client.informers.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.Transforms;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -118,6 +122,48 @@ class DeltaFIFOTest {
     deltaFIFO.getItems().remove(Cache.deletionHandlingMetaNamespaceKeyFunc(foo1));
   }
 
+  @Test
+  void testCompactUpdates() {
+    Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").withResourceVersion("1").endMetadata().build();
+    Pod foo1v2 = new PodBuilder(foo1).editMetadata().withResourceVersion("2").endMetadata().build();
+    Pod foo1v3 = new PodBuilder(foo1).editMetadata().withResourceVersion("3").endMetadata().build();
+    Cache<Pod> cache = new Cache<>();
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, cache);
+    String key = Cache.deletionHandlingMetaNamespaceKeyFunc(foo1);
+
+    // without compaction every update is kept
+    deltaFIFO.update(foo1);
+    deltaFIFO.update(foo1v2);
+    assertEquals(2, deltaFIFO.getItems().get(key).size());
+    deltaFIFO.getItems().remove(key);
+
+    deltaFIFO.setCompactUpdates(true);
+
+    // Update-update compaction
+    deltaFIFO.update(foo1);
+    deltaFIFO.update(foo1v2);
+    deltaFIFO.update(foo1v3);
+    Deque<AbstractMap.SimpleEntry<DeltaFIFO.DeltaType, Object>> deltas = deltaFIFO.getItems().get(key);
+    assertEquals(1, deltas.size());
+    assertEquals(DeltaFIFO.DeltaType.UPDATION, deltas.peekFirst().getKey());
+    assertEquals(foo1v3, deltas.peekFirst().getValue());
+    deltaFIFO.getItems().remove(key);
+
+    // Add-update compaction
+    deltaFIFO.add(foo1);
+    deltaFIFO.update(foo1v2);
+    deltas = deltaFIFO.getItems().get(key);
+    assertEquals(1, deltas.size());
+    assertEquals(DeltaFIFO.DeltaType.ADDITION, deltas.peekFirst().getKey());
+    assertEquals(foo1v2, deltas.peekFirst().getValue());
+    deltaFIFO.getItems().remove(key);
+
+    // a deletion is never compacted away
+    deltaFIFO.update(foo1);
+    deltaFIFO.delete(foo1v2);
+    assertEquals(2, deltaFIFO.getItems().get(key).size());
+  }
+
   @Test
   void testResync() {
     Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").endMetadata().build();
@@ -159,4 +205,104 @@ class DeltaFIFOTest {
         assertEquals(newPod, deltas.getFirst().getValue());
       });
   }
+
+  @Test
+  void testReplacePages() throws InterruptedException {
+    Pod oldPod = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo1").endMetadata().build();
+    Pod newPod1 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo2").endMetadata().build();
+    Pod newPod2 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo3").endMetadata().build();
+    Cache<Pod> cache = new Cache<>();
+    cache.add(oldPod);
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, cache);
+
+    deltaFIFO.replacePage(Collections.singletonList(newPod1), true, false);
+    assertEquals(1, deltaFIFO.getItems().size());
+    assertFalse(deltaFIFO.hasSynced());
+
+    // items of the first page can be consumed before the next page arrives
+    deltaFIFO.pop(
+      (deltas) -> {
+        assertEquals(DeltaFIFO.DeltaType.SYNCHRONIZATION, deltas.getFirst().getKey());
+        assertEquals(newPod1, deltas.getFirst().getValue());
+      });
+    cache.add(newPod1);
+
+    deltaFIFO.replacePage(Collections.singletonList(newPod2), false, true);
+    assertFalse(deltaFIFO.hasSynced());
+    deltaFIFO.pop(
+      (deltas) -> {
+        assertEquals(DeltaFIFO.DeltaType.SYNCHRONIZATION, deltas.getFirst().getKey());
+        assertEquals(newPod2, deltas.getFirst().getValue());
+      });
+    deltaFIFO.pop(
+      (deltas) -> {
+        assertEquals(DeltaFIFO.DeltaType.DELETION, deltas.getFirst().getKey());
+        assertEquals(oldPod, ((DeltaFIFO.DeletedFinalStateUnknown) deltas.getFirst().getValue()).getObj());
+      });
+    assertTrue(deltaFIFO.hasSynced());
+  }
+
+  @Test
+  void testTransformIsAppliedBeforeQueueing() throws InterruptedException {
+    Cache<Pod> cache = new Cache<>();
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, cache);
+    deltaFIFO.setTransform(Transforms.allOf(Transforms.stripManagedFields(), Transforms.stripLastAppliedConfiguration()));
+
+    deltaFIFO.add(new PodBuilder().withNewMetadata().withName("pod1").withNamespace("default")
+      .addNewManagedField().withManager("kubectl").endManagedField()
+      .addToAnnotations(Transforms.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+      .addToAnnotations("keep", "me")
+      .endMetadata().build());
+    deltaFIFO.replace(Collections.singletonList(new PodBuilder().withNewMetadata().withName("pod2").withNamespace("default")
+      .addNewManagedField().withManager("kubectl").endManagedField()
+      .addToAnnotations(Transforms.LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}")
+      .endMetadata().build()), "0");
+
+    List<Pod> popped = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      deltaFIFO.pop(deltas -> popped.add((Pod) deltas.peekLast().getValue()));
+    }
+    assertEquals(2, popped.size());
+    assertNull(popped.get(0).getMetadata().getManagedFields());
+    assertEquals(Collections.singletonMap("keep", "me"), popped.get(0).getMetadata().getAnnotations());
+    assertNull(popped.get(1).getMetadata().getManagedFields());
+    assertNull(popped.get(1).getMetadata().getAnnotations());
+  }
+
+  @Test
+  void testListKnownAndQueued() {
+    Pod foo1 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo1").endMetadata().build();
+    Pod foo2 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo2").endMetadata().build();
+    Pod foo3 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo3").endMetadata().build();
+    Pod updatedFoo2 = new PodBuilder(foo2).editMetadata().addToLabels("app", "web").endMetadata().build();
+    Cache<Pod> cache = new Cache<>();
+    cache.add(foo1);
+    cache.add(foo2);
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, cache);
+
+    deltaFIFO.delete(foo1);
+    deltaFIFO.update(updatedFoo2);
+    deltaFIFO.add(foo3);
+
+    List<Object> objects = deltaFIFO.listKnownAndQueued();
+    assertEquals(2, objects.size());
+    assertTrue(objects.contains(updatedFoo2));
+    assertTrue(objects.contains(foo3));
+  }
+
+  @Test
+  void testListKnownAndQueuedDecodesCompactCache() {
+    Pod foo1 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo1").endMetadata().build();
+    Pod foo2 = new PodBuilder().withNewMetadata().withNamespace("default").withName("foo2").endMetadata().build();
+    Cache<Pod> cache = new CompactCache<>(Pod.class, true, 0);
+    cache.add(foo1);
+    DeltaFIFO<Pod> deltaFIFO = new DeltaFIFO<>(Cache::deletionHandlingMetaNamespaceKeyFunc, cache);
+
+    deltaFIFO.add(foo2);
+
+    List<Object> objects = deltaFIFO.listKnownAndQueued();
+    assertEquals(2, objects.size());
+    assertTrue(objects.contains(foo1));
+    assertTrue(objects.contains(foo2));
+  }
 }
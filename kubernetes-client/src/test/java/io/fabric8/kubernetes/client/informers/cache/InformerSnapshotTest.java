@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InformerSnapshotTest {
+
+  @TempDir
+  File directory;
+
+  @Test
+  void testSaveAndLoad() throws IOException {
+    File file = new File(directory, "pods.snapshot");
+    InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(file, Pod.class);
+    Pod pod1 = pod("pod1");
+    Pod pod2 = pod("pod2");
+
+    snapshot.save(Arrays.asList(pod1, pod2), "1000");
+    snapshot.save(Collections.singletonList(pod2), "1001");
+
+    InformerSnapshot.Contents<Pod> contents = snapshot.load();
+    assertEquals("1001", contents.getResourceVersion());
+    assertEquals(Collections.singletonList(pod2), contents.getItems());
+    assertEquals(Collections.singletonList("pods.snapshot"), Arrays.asList(directory.list()));
+  }
+
+  @Test
+  void testConcurrentSaves() throws Exception {
+    File file = new File(directory, "pods.snapshot");
+    InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(file, Pod.class);
+    ExecutorService savers = Executors.newFixedThreadPool(4);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      String resourceVersion = String.valueOf(i);
+      // a separate snapshot of the same file too, as a second informer would have
+      InformerSnapshot<Pod> target = i % 2 == 0 ? snapshot : new InformerSnapshot<>(file, Pod.class);
+      results.add(savers.submit(() -> {
+        for (int j = 0; j < 20; j++) {
+          target.save(Arrays.asList(pod("pod1"), pod("pod2")), resourceVersion);
+        }
+        return null;
+      }));
+    }
+    savers.shutdown();
+    for (Future<?> result : results) {
+      result.get();
+    }
+
+    assertEquals(2, snapshot.load().getItems().size());
+    assertEquals(Collections.singletonList("pods.snapshot"), Arrays.asList(directory.list()));
+  }
+
+  @Test
+  void testMissingSnapshot() throws IOException {
+    assertNull(new InformerSnapshot<>(new File(directory, "missing"), Pod.class).load());
+  }
+
+  @Test
+  void testSnapshotOfOtherType() throws IOException {
+    File file = new File(directory, "pods.snapshot");
+    new InformerSnapshot<>(file, Pod.class).save(Collections.singletonList(pod("pod1")), "1000");
+
+    InformerSnapshot<ConfigMap> snapshot = new InformerSnapshot<>(file, ConfigMap.class);
+    assertThrows(IOException.class, snapshot::load);
+  }
+
+  @Test
+  void testCorruptSnapshot() throws IOException {
+    File file = new File(directory, "pods.snapshot");
+    Files.write(file.toPath(), "not a snapshot".getBytes());
+
+    InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(file, Pod.class);
+    assertThrows(IOException.class, snapshot::load);
+  }
+
+  @Test
+  void testSnapshotWithCorruptLengths() throws IOException {
+    File file = new File(directory, "pods.snapshot");
+    InformerSnapshot<Pod> snapshot = new InformerSnapshot<>(file, Pod.class);
+
+    writeSnapshot(file, 1, Integer.MAX_VALUE - 8);
+    assertThrows(IOException.class, snapshot::load);
+    writeSnapshot(file, Integer.MAX_VALUE, 16);
+    assertThrows(IOException.class, snapshot::load);
+    writeSnapshot(file, 1, -1);
+    assertThrows(IOException.class, snapshot::load);
+    // within the bounds, but longer than what's in the file
+    writeSnapshot(file, 1, 1000);
+    assertThrows(IOException.class, snapshot::load);
+  }
+
+  private static void writeSnapshot(File file, int count, int length) throws IOException {
+    try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(Files.newOutputStream(file.toPath())))) {
+      out.writeInt(InformerSnapshot.MAGIC);
+      out.writeInt(InformerSnapshot.FORMAT_VERSION);
+      out.writeUTF(Pod.class.getName());
+      out.writeUTF("1000");
+      out.writeInt(count);
+      out.writeInt(length);
+      out.write(new byte[16]);
+    }
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withNamespace("ns1").withName(name).withResourceVersion("1").endMetadata()
+      .withNewSpec().addNewContainer().withName("main").withImage("nginx").endContainer().endSpec()
+      .build();
+  }
+}
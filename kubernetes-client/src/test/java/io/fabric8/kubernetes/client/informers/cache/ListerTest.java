@@ -49,5 +49,10 @@ class ListerTest {
 
     namespacedPodList = allNamespacedPodLister.namespace("default").list();
     assertEquals(3, namespacedPodList.size());
+
+    assertEquals(3, namespacedPodLister.count());
+    assertEquals(3, namespacedPodLister.stream().count());
+    assertEquals(3, allNamespacedPodLister.count());
+    assertEquals(0, allNamespacedPodLister.namespace("other").count());
   }
 }
@@ -17,9 +17,16 @@ package io.fabric8.kubernetes.client.informers.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.BatchResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 
@@ -66,4 +73,121 @@ class ProcessorListenerTest {
     assertTrue(deleteNotificationReceived);
 
   }
+
+  @Test
+  void testCoalesceWhenQueueIsFull() throws InterruptedException {
+    Pod pod1 = pod("pod1", "1");
+    Pod pod1Updated = pod("pod1", "2");
+    Pod pod1UpdatedAgain = pod("pod1", "3");
+    Pod pod2 = pod("pod2", "1");
+
+    List<String> events = new ArrayList<>();
+    CountDownLatch handled = new CountDownLatch(2);
+    ProcessorListener<Pod> listener = new ProcessorListener<>(new RecordingHandler(events, handled), 0);
+    listener.setQueueLimit(2, OverflowPolicy.COALESCE);
+
+    listener.add(new ProcessorListener.AddNotification<>(pod1));
+    listener.add(new ProcessorListener.AddNotification<>(pod2));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod1, pod1Updated));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod1Updated, pod1UpdatedAgain));
+
+    ProcessorListener.Metrics metrics = listener.getMetrics();
+    assertEquals(2, metrics.getQueueSize());
+    assertEquals(2, metrics.getCoalescedCount());
+
+    startListener(listener);
+    assertTrue(handled.await(5, TimeUnit.SECONDS));
+    assertEquals("add pod1 3", events.get(0));
+    assertEquals("add pod2 1", events.get(1));
+  }
+
+  @Test
+  void testDropResyncWhenQueueIsFull() {
+    ProcessorListener<Pod> listener = new ProcessorListener<>(new RecordingHandler(new ArrayList<>(), new CountDownLatch(0)), 0);
+    listener.setQueueLimit(1, OverflowPolicy.DROP_RESYNC);
+
+    Pod pod = pod("pod1", "1");
+    listener.add(new ProcessorListener.AddNotification<>(pod));
+    listener.add(new ProcessorListener.UpdateNotification<>(pod, pod), true);
+
+    ProcessorListener.Metrics metrics = listener.getMetrics();
+    assertEquals(1, metrics.getQueueSize());
+    assertEquals(1, metrics.getQueueCapacity());
+    assertEquals(1, metrics.getDroppedCount());
+  }
+
+  @Test
+  void testBatchHandler() throws InterruptedException {
+    List<Integer> batchSizes = new ArrayList<>();
+    CountDownLatch handled = new CountDownLatch(1);
+    ProcessorListener<Pod> listener = new ProcessorListener<>(new BatchResourceEventHandler<Pod>() {
+      @Override
+      public void onBatch(List<ProcessorListener.Notification<Pod>> notifications) {
+        batchSizes.add(notifications.size());
+        handled.countDown();
+      }
+
+      @Override
+      public void onAdd(Pod obj) { }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) { }
+
+      @Override
+      public void onDelete(Pod obj, boolean deletedFinalStateUnknown) { }
+    }, 0);
+
+    for (int i = 0; i < 10; i++) {
+      listener.add(new ProcessorListener.AddNotification<>(pod("pod" + i, "1")));
+    }
+    startListener(listener);
+
+    assertTrue(handled.await(5, TimeUnit.SECONDS));
+    assertEquals(10, batchSizes.get(0).intValue());
+    // metrics are recorded once the handler has returned
+    for (int i = 0; i < 50 && listener.getMetrics().getHandledCount() == 0; i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(10, listener.getMetrics().getHandledCount());
+  }
+
+  private static void startListener(ProcessorListener<Pod> listener) {
+    Thread listenerThread = new Thread(listener::run);
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("default").withResourceVersion(resourceVersion).endMetadata().build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<Pod> {
+    private final List<String> events;
+    private final CountDownLatch handled;
+
+    RecordingHandler(List<String> events, CountDownLatch handled) {
+      this.events = events;
+      this.handled = handled;
+    }
+
+    @Override
+    public void onAdd(Pod obj) {
+      record("add", obj);
+    }
+
+    @Override
+    public void onUpdate(Pod oldObj, Pod newObj) {
+      record("update", newObj);
+    }
+
+    @Override
+    public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      record("delete", obj);
+    }
+
+    private void record(String type, Pod pod) {
+      events.add(type + " " + pod.getMetadata().getName() + " " + pod.getMetadata().getResourceVersion());
+      handled.countDown();
+    }
+  }
 }
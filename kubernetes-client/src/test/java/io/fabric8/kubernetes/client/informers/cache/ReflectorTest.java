@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.informers.ListerWatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReflectorTest {
+
+  @TempDir
+  File directory;
+
+  @Test
+  void testRestoredReflectorDoesNotListRightAway() throws Exception {
+    File file = new File(directory, "pods.snapshot");
+    new InformerSnapshot<>(file, Pod.class).save(Collections.singletonList(pod()), "1000");
+    CountingListerWatcher listerWatcher = new CountingListerWatcher();
+    Reflector<Pod, PodList> reflector = reflector(listerWatcher, 60_000L);
+    reflector.setSnapshot(new InformerSnapshot<>(file, Pod.class), 0L);
+
+    reflector.listAndWatch();
+    Thread.sleep(200);
+    reflector.stop();
+
+    assertEquals(0, listerWatcher.lists.get());
+    assertEquals(1, listerWatcher.watches.get());
+    assertEquals("1000", reflector.getLastSyncResourceVersion());
+  }
+
+  @Test
+  void testRestoredReflectorKeepsReListing() throws Exception {
+    File file = new File(directory, "pods.snapshot");
+    new InformerSnapshot<>(file, Pod.class).save(Collections.singletonList(pod()), "1000");
+    CountingListerWatcher listerWatcher = new CountingListerWatcher();
+    Reflector<Pod, PodList> reflector = reflector(listerWatcher, 10L);
+    reflector.setSnapshot(new InformerSnapshot<>(file, Pod.class), 0L);
+
+    reflector.listAndWatch();
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+    while (listerWatcher.lists.get() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    reflector.stop();
+
+    assertTrue(listerWatcher.lists.get() >= 2);
+  }
+
+  @Test
+  void testReflectorWithoutSnapshotReLists() throws Exception {
+    CountingListerWatcher listerWatcher = new CountingListerWatcher();
+    Reflector<Pod, PodList> reflector = reflector(listerWatcher, 10L);
+
+    reflector.listAndWatch();
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+    while (listerWatcher.lists.get() < 3 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    reflector.stop();
+
+    assertTrue(listerWatcher.lists.get() >= 3);
+  }
+
+  @Test
+  void testStoreConstructorRequiresDeltaFIFO() throws Exception {
+    CountingListerWatcher listerWatcher = new CountingListerWatcher();
+    Store fifo = new DeltaFIFO<Pod>(Cache::metaNamespaceKeyFunc, new Cache<>());
+    Reflector<Pod, PodList> reflector = new Reflector<>(Pod.class, listerWatcher, fifo, new OperationContext().withNamespace("test"), 0L);
+
+    reflector.listAndWatch();
+    reflector.stop();
+
+    assertEquals(1, listerWatcher.lists.get());
+    assertThrows(IllegalArgumentException.class,
+      () -> new Reflector<>(Pod.class, listerWatcher, new Cache<Pod>(), new OperationContext(), 0L));
+  }
+
+  private static Reflector<Pod, PodList> reflector(ListerWatcher<Pod, PodList> listerWatcher, long resyncPeriodMillis) {
+    DeltaFIFO<Pod> fifo = new DeltaFIFO<>(Cache::metaNamespaceKeyFunc, new Cache<>());
+    return new Reflector<>(Pod.class, listerWatcher, fifo, new OperationContext().withNamespace("test"), resyncPeriodMillis);
+  }
+
+  private static Pod pod() {
+    return new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion("1000").endMetadata().build();
+  }
+
+  private static class CountingListerWatcher implements ListerWatcher<Pod, PodList> {
+    private final AtomicInteger lists = new AtomicInteger();
+    private final AtomicInteger watches = new AtomicInteger();
+
+    @Override
+    public Watch watch(ListOptions params, String namespace, OperationContext context, Watcher<Pod> watcher) {
+      watches.incrementAndGet();
+      return () -> { };
+    }
+
+    @Override
+    public PodList list(ListOptions params, String namespace, OperationContext context) {
+      lists.incrementAndGet();
+      return new PodListBuilder().withNewMetadata().withResourceVersion("1000").endMetadata().addToItems(pod()).build();
+    }
+  }
+}
@@ -17,9 +17,11 @@ package io.fabric8.kubernetes.client.informers.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.OverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
 class SharedProcessorTest {
@@ -51,6 +53,35 @@ class SharedProcessorTest {
     assertTrue(expectDeleteHandler.isSatisfied());
   }
 
+  @Test
+  void testStopReleasesDistributionBlockedOnFullQueue() throws InterruptedException {
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>();
+    Pod foo1 = new PodBuilder().withNewMetadata().withName("foo1").withNamespace("default").endMetadata().build();
+    ProcessorListener.Notification<Pod> addNotification = new ProcessorListener.AddNotification<>(foo1);
+
+    // never started, so its queue is never drained
+    ExpectingNotificationHandler<Pod> listener = new ExpectingNotificationHandler<>(addNotification);
+    listener.setQueueLimit(1, OverflowPolicy.BLOCK);
+    sharedProcessor.addListener(listener);
+
+    Thread producer = new Thread(() -> {
+      sharedProcessor.distribute(addNotification, false);
+      sharedProcessor.distribute(addNotification, false);
+    });
+    producer.start();
+    while (producer.getState() != Thread.State.WAITING) {
+      Thread.sleep(10);
+    }
+
+    // neither needs the producer to make progress
+    sharedProcessor.addListener(new ExpectingNotificationHandler<>(addNotification));
+    sharedProcessor.stop();
+
+    producer.join(5000);
+    assertFalse(producer.isAlive());
+    assertTrue(listener.isSatisfied());
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
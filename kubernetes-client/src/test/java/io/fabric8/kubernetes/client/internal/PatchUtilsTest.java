@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatchUtilsTest {
+
+  @Test
+  void testJsonMergePatchOfEqualTreesIsEmpty() throws IOException {
+    JsonNode tree = json("{\"a\":{\"b\":[1,2]},\"c\":\"d\"}");
+
+    assertEquals(json("{}"), PatchUtils.jsonMergePatch(tree, tree.deepCopy()));
+  }
+
+  @Test
+  void testJsonMergePatchOnlyContainsChanges() throws IOException {
+    JsonNode source = json("{\"metadata\":{\"name\":\"n\",\"labels\":{\"a\":\"1\",\"b\":\"2\"}},\"data\":{\"x\":\"1\"},\"list\":[1,2,3]}");
+    JsonNode target = json("{\"metadata\":{\"name\":\"n\",\"labels\":{\"a\":\"1\",\"c\":\"3\"}},\"list\":[1,2,4],\"spec\":{\"replicas\":2}}");
+
+    assertEquals(json("{\"metadata\":{\"labels\":{\"b\":null,\"c\":\"3\"}},\"data\":null,\"list\":[1,2,4],\"spec\":{\"replicas\":2}}"),
+      PatchUtils.jsonMergePatch(source, target));
+  }
+
+  @Test
+  void testJsonMergePatchReplacesValuesChangingType() throws IOException {
+    JsonNode source = json("{\"a\":{\"b\":1},\"c\":\"text\"}");
+    JsonNode target = json("{\"a\":\"flat\",\"c\":{\"d\":1}}");
+
+    assertEquals(target, PatchUtils.jsonMergePatch(source, target));
+  }
+
+  @Test
+  void testApplyMergePatchInvertsJsonMergePatch() throws IOException {
+    JsonNode source = json("{\"metadata\":{\"name\":\"n\",\"labels\":{\"a\":\"1\",\"b\":\"2\"}},\"data\":{\"x\":\"1\"},\"list\":[1,2,3]}");
+    JsonNode target = json("{\"metadata\":{\"name\":\"n\",\"labels\":{\"a\":\"1\",\"c\":\"3\"}},\"list\":[1,2,4],\"spec\":{\"replicas\":2}}");
+
+    assertEquals(target, PatchUtils.applyMergePatch(source, PatchUtils.jsonMergePatch(source, target)));
+    assertEquals(json("{\"metadata\":{\"name\":\"n\",\"labels\":{\"a\":\"1\",\"b\":\"2\"}},\"data\":{\"x\":\"1\"},\"list\":[1,2,3]}"), source);
+  }
+
+  @Test
+  void testReplacesArrayFindsNestedArrays() throws IOException {
+    assertTrue(PatchUtils.replacesArray(json("{\"spec\":{\"template\":{\"containers\":[{\"name\":\"c\"}]}}}")));
+    assertFalse(PatchUtils.replacesArray(json("{\"metadata\":{\"labels\":{\"a\":null}},\"spec\":{\"replicas\":2}}")));
+  }
+
+  private static JsonNode json(String json) throws IOException {
+    return Serialization.jsonMapper().readTree(json);
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.utils.RateLimiter.Lane;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitInterceptorTest {
+  private MockWebServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  void testRetriesAfterTooManyRequests() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+    server.enqueue(new MockResponse().setResponseCode(200).setBody("{}"));
+    RateLimiter rateLimiter = new RateLimiter(100, 10);
+    OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new RateLimitInterceptor(rateLimiter)).build();
+
+    long start = System.nanoTime();
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/api/v1/pods")).build()).execute()) {
+      assertEquals(200, response.code());
+    }
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 900);
+    assertEquals(2, server.getRequestCount());
+    assertEquals(2, rateLimiter.getAcquired(Lane.DEFAULT));
+    assertSame(rateLimiter, RateLimitInterceptor.getRateLimiter(client));
+  }
+
+  @Test
+  void testTooManyRequestsWithoutRetryAfterIsReturned() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(429));
+    OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new RateLimitInterceptor(new RateLimiter(100, 10))).build();
+
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/api/v1/pods")).build()).execute()) {
+      assertEquals(429, response.code());
+    }
+    assertEquals(1, server.getRequestCount());
+  }
+
+  @Test
+  void testRequestsOfClientInLaneAreTagged() throws IOException {
+    server.enqueue(new MockResponse().setResponseCode(201).setBody("{}"));
+    server.enqueue(new MockResponse().setResponseCode(201).setBody("{}"));
+    RateLimiter rateLimiter = new RateLimiter(100, 10);
+    OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new RateLimitInterceptor(rateLimiter)).build();
+    OkHttpClient bulkClient = RateLimitInterceptor.inLane(client, Lane.BULK);
+    RequestBody body = RequestBody.create(MediaType.parse("application/json"), "{}");
+
+    try (Response response = bulkClient.newCall(new Request.Builder().url(server.url("/api/v1/pods")).post(body).build()).execute()) {
+      assertEquals(201, response.code());
+    }
+    try (Response response = client.newCall(new Request.Builder().url(server.url("/api/v1/pods")).post(body).build()).execute()) {
+      assertEquals(201, response.code());
+    }
+
+    assertEquals(1, rateLimiter.getAcquired(Lane.BULK));
+    assertEquals(1, rateLimiter.getAcquired(Lane.DEFAULT));
+    assertSame(rateLimiter, RateLimitInterceptor.getRateLimiter(bulkClient));
+    OkHttpClient unthrottled = new OkHttpClient();
+    assertSame(unthrottled, RateLimitInterceptor.inLane(unthrottled, Lane.BULK));
+  }
+
+  @Test
+  void testLanes() {
+    RequestBody body = RequestBody.create(MediaType.parse("application/json"), "{}");
+
+    assertEquals(Lane.LEADER_ELECTION, RateLimitInterceptor.laneOf(new Request.Builder()
+      .url("https://localhost/apis/coordination.k8s.io/v1/namespaces/test/leases/lock").put(body).build()));
+    assertEquals(Lane.WATCH, RateLimitInterceptor.laneOf(new Request.Builder()
+      .url("https://localhost/api/v1/namespaces/test/pods?watch=true").build()));
+    assertEquals(Lane.DEFAULT, RateLimitInterceptor.laneOf(new Request.Builder()
+      .url("https://localhost/api/v1/namespaces/test/pods").post(body).build()));
+    assertEquals(Lane.BULK, RateLimitInterceptor.laneOf(new Request.Builder()
+      .url("https://localhost/api/v1/namespaces/test/pods").post(body).tag(Lane.class, Lane.BULK).build()));
+    assertEquals(Lane.DEFAULT, RateLimitInterceptor.laneOf(new Request.Builder()
+      .url("https://localhost/api/v1/namespaces/test/pods").build()));
+  }
+}
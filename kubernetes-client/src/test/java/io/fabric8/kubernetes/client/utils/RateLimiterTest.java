@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.client.utils.RateLimiter.Lane;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+  @Test
+  void testBurstIsHandedOutWithoutWaiting() throws InterruptedException {
+    RateLimiter rateLimiter = new RateLimiter(10, 3);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 3; i++) {
+      rateLimiter.acquire(Lane.DEFAULT);
+    }
+    long burstMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    rateLimiter.acquire(Lane.DEFAULT);
+    long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertTrue(burstMillis < 50, "burst took " + burstMillis + "ms");
+    assertTrue(totalMillis >= 90, "fourth permit took " + totalMillis + "ms");
+    assertEquals(4, rateLimiter.getAcquired(Lane.DEFAULT));
+    assertTrue(rateLimiter.getMaxWaitTime(Lane.DEFAULT, TimeUnit.MILLISECONDS) >= 50);
+    assertTrue(rateLimiter.getTotalWaitTime(Lane.DEFAULT, TimeUnit.MILLISECONDS) >= rateLimiter.getMaxWaitTime(Lane.DEFAULT, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testMoreImportantLaneGoesFirst() throws InterruptedException {
+    RateLimiter rateLimiter = new RateLimiter(5, 1);
+    rateLimiter.acquire(Lane.DEFAULT);
+    List<Lane> order = new CopyOnWriteArrayList<>();
+
+    Thread bulk = acquireInThread(rateLimiter, Lane.BULK, order);
+    awaitWaiting(rateLimiter, Lane.BULK);
+    Thread leaderElection = acquireInThread(rateLimiter, Lane.LEADER_ELECTION, order);
+    awaitWaiting(rateLimiter, Lane.LEADER_ELECTION);
+    bulk.join(5000);
+    leaderElection.join(5000);
+
+    assertEquals(2, order.size());
+    assertEquals(Lane.LEADER_ELECTION, order.get(0));
+    assertEquals(Lane.BULK, order.get(1));
+  }
+
+  @Test
+  void testPauseHoldsBackPermits() throws InterruptedException {
+    RateLimiter rateLimiter = new RateLimiter(100, 10);
+    rateLimiter.pause(300, TimeUnit.MILLISECONDS);
+
+    long start = System.nanoTime();
+    rateLimiter.acquire(Lane.LEADER_ELECTION);
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 250);
+  }
+
+  private static Thread acquireInThread(RateLimiter rateLimiter, Lane lane, List<Lane> order) {
+    Thread thread = new Thread(() -> {
+      try {
+        rateLimiter.acquire(lane);
+        order.add(lane);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+  private static void awaitWaiting(RateLimiter rateLimiter, Lane lane) throws InterruptedException {
+    for (int i = 0; i < 100 && rateLimiter.getWaiting(lane) == 0; i++) {
+      Thread.sleep(1);
+    }
+    assertEquals(1, rateLimiter.getWaiting(lane));
+  }
+}
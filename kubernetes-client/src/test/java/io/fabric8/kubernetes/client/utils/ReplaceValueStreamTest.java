@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplaceValueStreamTest {
+
+  @Test
+  void testReplacesAllExpressionForms() throws IOException {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("NAME", "app");
+    parameters.put("REPLICAS", "3");
+
+    String result = replace("name: ${NAME}\nreplicas: \"${{REPLICAS}}\"\nport: ${{REPLICAS}}0\nother: ${OTHER}", parameters);
+
+    assertEquals("name: app\nreplicas: 3\nport: 30\nother: ${OTHER}", result);
+  }
+
+  @Test
+  void testLeavesIncompleteAndUnknownExpressionsAlone() throws IOException {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("A", "x");
+
+    assertEquals("$$x \"x\" \"${{B}}\" ${A ${{A} \"", replace("$$${A} \"${A}\" \"${{B}}\" ${A ${{A} \"", parameters));
+    assertEquals("\"${{A}", replace("\"${{A}", parameters));
+  }
+
+  @Test
+  void testMatchesInterpolateString() throws IOException {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("FIRST", "één");
+    parameters.put("SECOND", "");
+    String template = "a: ${FIRST}\nb: \"${{SECOND}}\"\nc: ${{FIRST}}\nd: ü${SECOND}ü";
+
+    assertEquals(Utils.interpolateString(template, parameters), replace(template, parameters));
+  }
+
+  @Test
+  void testExpressionsAcrossReadBoundaries() throws IOException {
+    Map<String, String> parameters = new HashMap<>();
+    parameters.put("PARAMETER", "value");
+    StringBuilder template = new StringBuilder();
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      template.append(i).append("${PARAMETER}\"${{PARAMETER}}\"");
+      expected.append(i).append("valuevalue");
+    }
+    InputStream trickling = new FilterInputStream(new ByteArrayInputStream(template.toString().getBytes(StandardCharsets.UTF_8))) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        return super.read(b, off, Math.min(len, 3));
+      }
+    };
+
+    try (InputStream replaced = ReplaceValueStream.replaceValues(trickling, parameters)) {
+      assertEquals(expected.toString(), readFully(replaced));
+    }
+  }
+
+  private static String replace(String template, Map<String, String> parameters) throws IOException {
+    try (InputStream replaced = ReplaceValueStream.replaceValues(new ByteArrayInputStream(template.getBytes(StandardCharsets.UTF_8)), parameters)) {
+      return readFully(replaced);
+    }
+  }
+
+  private static String readFully(InputStream is) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[100];
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerialExecutorTest {
+  private ScheduledExecutorService scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = Executors.newScheduledThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void testTasksRunInOrderOneAtATime() throws InterruptedException {
+    SerialExecutor executor = new SerialExecutor(scheduler);
+    List<Integer> order = new CopyOnWriteArrayList<>();
+    AtomicInteger running = new AtomicInteger();
+    AtomicBoolean overlapped = new AtomicBoolean();
+    CountDownLatch done = new CountDownLatch(100);
+
+    for (int i = 0; i < 100; i++) {
+      int task = i;
+      executor.execute(() -> {
+        if (running.incrementAndGet() > 1) {
+          overlapped.set(true);
+        }
+        order.add(task);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertFalse(overlapped.get());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, order.get(i).intValue());
+    }
+  }
+
+  @Test
+  void testScheduleRunsAfterDelay() throws InterruptedException {
+    SerialExecutor executor = new SerialExecutor(scheduler);
+    CountDownLatch done = new CountDownLatch(1);
+    long start = System.nanoTime();
+
+    executor.schedule(done::countDown, 100, TimeUnit.MILLISECONDS);
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+  }
+
+  @Test
+  void testBlockingTasksDontHoldTheScheduler() throws InterruptedException {
+    ScheduledExecutorService singleThreadScheduler = Executors.newSingleThreadScheduledExecutor();
+    ExecutorService blocking = Executors.newCachedThreadPool();
+    try {
+      SerialExecutor executor = new SerialExecutor(blocking, singleThreadScheduler);
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch timed = new CountDownLatch(1);
+
+      executor.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      // the only scheduler thread is still free while the task blocks
+      singleThreadScheduler.schedule(timed::countDown, 10, TimeUnit.MILLISECONDS);
+
+      assertTrue(timed.await(5, TimeUnit.SECONDS));
+      release.countDown();
+    } finally {
+      singleThreadScheduler.shutdownNow();
+      blocking.shutdownNow();
+    }
+  }
+
+  @Test
+  void testShutdownDropsPendingTasks() throws InterruptedException {
+    SerialExecutor executor = new SerialExecutor(scheduler);
+    AtomicBoolean delayedRan = new AtomicBoolean();
+
+    executor.schedule(() -> delayedRan.set(true), 100, TimeUnit.MILLISECONDS);
+    executor.shutdown();
+
+    assertTrue(executor.isShutdown());
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    Thread.sleep(300);
+    assertFalse(delayedRan.get());
+  }
+}
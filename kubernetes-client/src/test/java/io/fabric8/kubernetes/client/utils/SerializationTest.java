@@ -15,8 +15,11 @@
  */
 package io.fabric8.kubernetes.client.utils;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.CustomResourceDefinition;
 import io.fabric8.kubernetes.api.model.apiextensions.v1beta1.JSONSchemaProps;
@@ -26,15 +29,18 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -97,46 +103,98 @@ public class SerializationTest {
   }
 
   @Test
-  @DisplayName("containsMultipleDocuments, multiple documents with windows line ends, should return true")
-  void containsMultipleDocumentsWithMultipleDocumentsAndWindowsLineEnds() {
+  @DisplayName("unmarshalDocuments, multiple documents with windows line ends, should return all documents")
+  void unmarshalDocumentsWithMultipleDocumentsAndWindowsLineEnds() {
     // Given
-    final String multiDocument = "---\r\napiVersion: v1\r\nKind: Something\r\n\r\n---\r\napiVersion: v2\r\nKind: Other";
+    final String multiDocument = "---\r\napiVersion: v1\r\nkind: ConfigMap\r\n\r\n---\r\napiVersion: v1\r\nkind: Secret";
     // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
+    final List<KubernetesResource> result = unmarshalDocuments(multiDocument);
     // Then
-    assertTrue(result);
+    assertEquals(2, result.size());
+    assertTrue(result.get(0) instanceof ConfigMap);
+    assertTrue(result.get(1) instanceof Secret);
   }
 
   @Test
-  @DisplayName("containsMultipleDocuments, single document with windows line ends, should return false")
-  void containsMultipleDocumentsWithSingleDocumentAndWindowsLineEnds() {
+  @DisplayName("unmarshalDocuments, single document with windows line ends, should return one document")
+  void unmarshalDocumentsWithSingleDocumentAndWindowsLineEnds() {
     // Given
-    final String multiDocument = "---\r\napiVersion: v1\r\nKind: Something\r\n\r\n";
+    final String multiDocument = "---\r\napiVersion: v1\r\nkind: ConfigMap\r\n\r\n";
     // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
+    final List<KubernetesResource> result = unmarshalDocuments(multiDocument);
     // Then
-    assertFalse(result);
+    assertEquals(1, result.size());
   }
 
   @Test
-  @DisplayName("containsMultipleDocuments, multiple documents with linux line ends, should return true")
-  void containsMultipleDocumentsWithMultipleDocumentsAndLinuxLineEnds() {
+  @DisplayName("unmarshalDocuments, multiple documents with linux line ends and empty documents, should return all non empty documents")
+  void unmarshalDocumentsWithMultipleDocumentsAndLinuxLineEnds() {
     // Given
-    final String multiDocument = "---\napiVersion: v1\nKind: Something\n\n---\napiVersion: v2\nKind: Other";
+    final String multiDocument = "---\napiVersion: v1\nkind: ConfigMap\n\n---\n# only a comment\n---\napiVersion: v1\nkind: Secret\n---\n";
     // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
+    final List<KubernetesResource> result = unmarshalDocuments(multiDocument);
     // Then
-    assertTrue(result);
+    assertEquals(2, result.size());
   }
 
   @Test
-  @DisplayName("containsMultipleDocuments, single document with linux line ends, should return false")
-  void containsMultipleDocumentsWithSingleDocumentAndLinuxLineEnds() {
+  @DisplayName("unmarshalDocuments, concatenated json documents, should return all documents")
+  void unmarshalDocumentsWithConcatenatedJson() {
     // Given
-    final String multiDocument = "---\napiVersion: v1\nKind: Something\n\n";
+    final String multiDocument = "{\"apiVersion\": \"v1\", \"kind\": \"ConfigMap\"}\n{\"apiVersion\": \"v1\", \"kind\": \"Secret\"}";
     // When
-    final boolean result = Serialization.containsMultipleDocuments(multiDocument);
+    final List<KubernetesResource> result = unmarshalDocuments(multiDocument);
     // Then
-    assertFalse(result);
+    assertEquals(2, result.size());
+    assertTrue(result.get(1) instanceof Secret);
+  }
+
+  @Test
+  @DisplayName("unmarshalItems, documents holding lists, should flatten them")
+  void unmarshalItemsFlattensLists() {
+    // Given
+    final String multiDocument = "apiVersion: v1\nkind: List\nitems:\n- apiVersion: v1\n  kind: ConfigMap\n- apiVersion: v1\n  kind: Secret\n---\napiVersion: v1\nkind: Service\n";
+    // When
+    final List<HasMetadata> result;
+    try (Stream<HasMetadata> items = Serialization.unmarshalItems(new ByteArrayInputStream(multiDocument.getBytes(StandardCharsets.UTF_8)), null)) {
+      result = items.collect(Collectors.toList());
+    }
+    // Then
+    assertEquals(3, result.size());
+    assertEquals("Service", result.get(2).getKind());
+  }
+
+  @Test
+  @DisplayName("unmarshalItems, documents which aren't resources, should skip them")
+  void unmarshalItemsSkipsDocumentsWithoutMetadata() {
+    // Given
+    final String multiDocument = "apiVersion: v1\nkind: Status\nstatus: Failure\n---\napiVersion: v1\nkind: Service\n";
+    // When
+    final List<HasMetadata> result;
+    try (Stream<HasMetadata> items = Serialization.unmarshalItems(new ByteArrayInputStream(multiDocument.getBytes(StandardCharsets.UTF_8)), null)) {
+      result = items.collect(Collectors.toList());
+    }
+    // Then
+    assertEquals(1, result.size());
+    assertEquals("Service", result.get(0).getKind());
+  }
+
+  @Test
+  @DisplayName("unmarshal, multiple documents with parameters, should return a list with the substituted documents")
+  void unmarshalMultipleDocumentsWithParameters() {
+    // Given
+    final String multiDocument = "apiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: ${NAME}\n---\napiVersion: v1\nkind: Secret\n";
+    // When
+    final Object result = Serialization.unmarshal(new ByteArrayInputStream(multiDocument.getBytes(StandardCharsets.UTF_8)),
+      Collections.singletonMap("NAME", "cfg"));
+    // Then
+    assertTrue(result instanceof List);
+    assertEquals("cfg", ((ConfigMap) ((List<?>) result).get(0)).getMetadata().getName());
+  }
+
+  private static List<KubernetesResource> unmarshalDocuments(String documents) {
+    try (Stream<KubernetesResource> stream = Serialization.unmarshalDocuments(new ByteArrayInputStream(documents.getBytes(StandardCharsets.UTF_8)), null)) {
+      return stream.collect(Collectors.toList());
+    }
   }
 }
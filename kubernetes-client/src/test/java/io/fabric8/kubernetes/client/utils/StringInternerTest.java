@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringInternerTest {
+
+  @Test
+  void testEqualStringsShareAnInstance() {
+    StringInterner interner = new StringInterner(10);
+    String first = new String("kube-system");
+    String second = new String("kube-system");
+
+    assertSame(first, interner.intern(first));
+    assertSame(first, interner.intern(second));
+    assertSame(first, interner.intern(first));
+    assertNull(interner.intern(null));
+
+    assertEquals(1, interner.getHits());
+    assertEquals(1, interner.getMisses());
+    assertEquals(40 + 2 * "kube-system".length(), interner.getBytesSaved());
+    assertEquals(1, interner.size());
+  }
+
+  @Test
+  void testFullInternerPassesNewStringsThrough() {
+    StringInterner interner = new StringInterner(1);
+    String held = new String("a");
+    interner.intern(held);
+
+    String notHeld = new String("b");
+    assertSame(notHeld, interner.intern(notHeld));
+    assertNotSame(notHeld, interner.intern(new String("b")));
+    assertSame(held, interner.intern(new String("a")));
+    assertEquals(1, interner.size());
+  }
+
+  @Test
+  void testMaxSizeMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new StringInterner(0));
+  }
+}
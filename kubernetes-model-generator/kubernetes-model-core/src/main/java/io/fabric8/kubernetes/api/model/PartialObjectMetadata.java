@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.fabric8.kubernetes.model.annotation.ApiGroup;
+import io.fabric8.kubernetes.model.annotation.ApiVersion;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The metadata-only view of any resource, as returned by the API server when requested with
+ * {@code as=PartialObjectMetadata;g=meta.k8s.io;v=v1}. Anything but the metadata is ignored when deserializing.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "apiVersion",
+    "kind",
+    "metadata"
+})
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonDeserialize(using = com.fasterxml.jackson.databind.JsonDeserializer.None.class)
+@ToString
+@EqualsAndHashCode
+@ApiVersion("v1")
+@ApiGroup("meta.k8s.io")
+public class PartialObjectMetadata implements HasMetadata
+{
+
+  @JsonProperty("apiVersion")
+  private String apiVersion = "meta.k8s.io/v1";
+  @JsonProperty("kind")
+  private String kind = "PartialObjectMetadata";
+  @JsonProperty("metadata")
+  private ObjectMeta metadata;
+
+  /**
+   * No args constructor for use in serialization
+   *
+   */
+  public PartialObjectMetadata() {
+  }
+
+  /**
+   *
+   * @param metadata
+   *     The metadata
+   */
+  public PartialObjectMetadata(ObjectMeta metadata) {
+    this.metadata = metadata;
+  }
+
+  @JsonProperty("apiVersion")
+  public String getApiVersion() {
+    return apiVersion;
+  }
+
+  @JsonProperty("apiVersion")
+  public void setApiVersion(String apiVersion) {
+    this.apiVersion = apiVersion;
+  }
+
+  @JsonProperty("kind")
+  public String getKind() {
+    return kind;
+  }
+
+  @JsonProperty("kind")
+  public void setKind(String kind) {
+    this.kind = kind;
+  }
+
+  @JsonProperty("metadata")
+  public ObjectMeta getMetadata() {
+    return metadata;
+  }
+
+  @JsonProperty("metadata")
+  public void setMetadata(ObjectMeta metadata) {
+    this.metadata = metadata;
+  }
+
+}
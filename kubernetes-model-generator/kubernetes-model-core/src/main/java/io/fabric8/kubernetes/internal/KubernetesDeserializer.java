@@ -17,7 +17,6 @@ package io.fabric8.kubernetes.internal;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -30,10 +29,12 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import io.fabric8.kubernetes.api.KubernetesResourceMappingProvider;
 import io.fabric8.kubernetes.api.model.HasMetadata;
@@ -52,54 +53,78 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
     @Override
     public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.readValueAsTree();
-        if (node.isObject()) {
-            return fromObjectNode(jp, node);
-        } else if (node.isArray()) {
-            return fromArrayNode(jp, node);
+        JsonToken token = jp.currentToken() != null ? jp.currentToken() : jp.nextToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+            return fromObject(jp, ctxt);
+        } else if (token == JsonToken.START_ARRAY) {
+            return fromArray(jp, ctxt);
         } else {
+            jp.skipChildren();
             return null;
         }
     }
 
-    private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-        Iterator<JsonNode> iterator = node.elements();
+    private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
         List<HasMetadata> list = new ArrayList<>();
-        while (iterator.hasNext()) {
-            JsonNode jsonNode = iterator.next();
-            if (jsonNode.isObject()) {
-                KubernetesResource resource = fromObjectNode(jp, jsonNode);
+        JsonToken token;
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                KubernetesResource resource = fromObject(jp, ctxt);
                 if (resource instanceof HasMetadata) {
                     list.add((HasMetadata)resource);
                 }
+            } else {
+                jp.skipChildren();
             }
         }
         return new KubernetesListBuilder().withItems(list).build();
     }
 
-    private static KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-        String key = getKey(node);
-        if (key != null) {
-            Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
-            if (resourceType == null) {
-                throw JsonMappingException.from(jp,"No resource type found for:" + key);
-            } else if (KubernetesResource.class.isAssignableFrom(resourceType)){
-                return jp.getCodec().treeToValue(node, resourceType);
-            }
-        }
-        return null;
-    }
-
     /**
-     * Return a string representation of the key of the type: <version>#<kind>.
+     * Reads the fields of the object up to its apiVersion and kind into a {@link TokenBuffer}, then binds the
+     * buffered fields followed by the rest of the object directly to the resolved type, without an intermediate tree.
      */
-    private static String getKey(JsonNode node) {
-        JsonNode apiVersion = node.get(API_VERSION);
-        JsonNode kind = node.get(KIND);
-
-        return mapping.createKey(
-                apiVersion != null ? apiVersion.textValue() : null,
-                kind != null ? kind.textValue() : null);
+    private static KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(jp, ctxt);
+        buffer.writeStartObject();
+        String apiVersion = null;
+        String kind = null;
+        JsonToken token = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextToken() : jp.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String field = jp.getCurrentName();
+            buffer.writeFieldName(field);
+            JsonToken value = jp.nextToken();
+            if (API_VERSION.equals(field)) {
+                apiVersion = value == JsonToken.VALUE_STRING ? jp.getText() : null;
+            } else if (KIND.equals(field)) {
+                kind = value == JsonToken.VALUE_STRING ? jp.getText() : null;
+            }
+            buffer.copyCurrentStructure(jp);
+            if (apiVersion != null && kind != null) {
+                break;
+            }
+        }
+        String key = mapping.createKey(apiVersion, kind);
+        if (key == null) {
+            jp.skipChildren();
+            return null;
+        }
+        Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
+        if (resourceType == null) {
+            throw JsonMappingException.from(jp,"No resource type found for:" + key);
+        }
+        JsonParser resourceParser;
+        if (token == JsonToken.END_OBJECT) {
+            buffer.writeEndObject();
+            resourceParser = buffer.asParser(jp);
+        } else {
+            resourceParser = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+        }
+        resourceParser.nextToken();
+        if (ctxt == null) {
+            return jp.getCodec().readValue(resourceParser, resourceType);
+        }
+        return ctxt.readValue(resourceParser, resourceType);
     }
 
     /**
@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.api.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartialObjectMetadataTest {
+  @Test
+  public void testDeserializeList() throws IOException {
+    String json = "{\"apiVersion\":\"meta.k8s.io/v1\",\"kind\":\"PartialObjectMetadataList\",\"metadata\":{\"resourceVersion\":\"42\"},"
+      + "\"items\":[{\"apiVersion\":\"meta.k8s.io/v1\",\"kind\":\"PartialObjectMetadata\","
+      + "\"metadata\":{\"name\":\"secret1\",\"namespace\":\"test\",\"labels\":{\"app\":\"web\"}},\"data\":{\"key\":\"dmFsdWU=\"}}]}";
+
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+
+    assertTrue(resource instanceof PartialObjectMetadataList);
+    PartialObjectMetadataList list = (PartialObjectMetadataList) resource;
+    assertEquals("42", list.getMetadata().getResourceVersion());
+    assertEquals(1, list.getItems().size());
+    PartialObjectMetadata item = list.getItems().get(0);
+    assertEquals("PartialObjectMetadata", item.getKind());
+    assertEquals("secret1", item.getMetadata().getName());
+    assertEquals("web", item.getMetadata().getLabels().get("app"));
+  }
+}
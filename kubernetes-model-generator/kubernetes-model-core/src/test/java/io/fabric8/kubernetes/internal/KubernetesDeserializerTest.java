@@ -16,11 +16,13 @@
 package io.fabric8.kubernetes.internal;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,10 +30,17 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.fabric8.kubernetes.api.KubernetesResourceMappingProvider;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Service;
 
 public class KubernetesDeserializerTest {
 
@@ -146,6 +155,82 @@ public class KubernetesDeserializerTest {
 		assertThat(clazz, equalTo(Pod.class));
 	}
 
+	@Test
+	public void shouldDeserializeWhenKindIsNotTheFirstField() throws IOException {
+		// given
+		String json = "{\"metadata\":{\"name\":\"pod1\",\"labels\":{\"app\":\"web\"}},"
+				+ "\"spec\":{\"containers\":[{\"name\":\"c1\",\"image\":\"nginx\"}]},"
+				+ "\"kind\":\"Pod\",\"status\":{\"phase\":\"Running\"},\"apiVersion\":\"v1\"}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(Pod.class));
+		Pod pod = (Pod) resource;
+		assertThat(pod.getApiVersion(), equalTo("v1"));
+		assertThat(pod.getMetadata().getLabels().get("app"), equalTo("web"));
+		assertThat(pod.getSpec().getContainers().get(0).getImage(), equalTo("nginx"));
+		assertThat(pod.getStatus().getPhase(), equalTo("Running"));
+	}
+
+	@Test
+	public void shouldDeserializeMixedKindList() throws IOException {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"kind\":\"List\",\"items\":["
+				+ "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}},"
+				+ "{\"metadata\":{\"name\":\"svc1\"},\"kind\":\"Service\",\"apiVersion\":\"v1\"},"
+				+ "{\"kind\":\"ConfigMap\",\"data\":{\"key\":\"value\"},\"metadata\":{\"name\":\"cm1\"}}]}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(KubernetesList.class));
+		KubernetesList list = (KubernetesList) resource;
+		assertThat(list.getItems().size(), is(3));
+		assertThat(find(list, Pod.class).getMetadata().getName(), equalTo("pod1"));
+		assertThat(find(list, Service.class).getMetadata().getName(), equalTo("svc1"));
+		assertThat(find(list, ConfigMap.class).getData().get("key"), equalTo("value"));
+	}
+
+	@Test
+	public void shouldDeserializeArrayAsList() throws IOException {
+		// given
+		String json = "[{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod1\"}},"
+				+ "{\"apiVersion\":\"v1\",\"kind\":\"Service\",\"metadata\":{\"name\":\"svc1\"}}]";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, instanceOf(KubernetesList.class));
+		assertThat(((KubernetesList) resource).getItems().size(), is(2));
+	}
+
+	@Test
+	public void shouldReturnNullWithoutKind() throws IOException {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"pod1\"}}";
+		// when
+		KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+		// then
+		assertThat(resource, is(nullValue()));
+	}
+
+	@Test
+	public void shouldThrowIfKindIsUnknown() {
+		// given
+		String json = "{\"apiVersion\":\"v1\",\"kind\":\"Smurf\",\"metadata\":{\"name\":\"smurf1\"}}";
+		// when
+		assertThrows(JsonMappingException.class, () -> {
+			new ObjectMapper().readValue(json, KubernetesResource.class);
+		});
+		// then throws
+	}
+
+	private <T extends HasMetadata> T find(KubernetesList list, Class<T> type) {
+		return list.getItems().stream()
+				.filter(type::isInstance)
+				.map(type::cast)
+				.findFirst()
+				.orElseThrow(AssertionError::new);
+	}
+
 	private KubernetesResourceMappingProvider createProvider(Pair<String, Class<? extends KubernetesResource>>... mappings) {
 		return () -> Stream.of(mappings)
 				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.server.mock;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.mockwebserver.Context;
 import io.fabric8.mockwebserver.crud.Attribute;
@@ -47,6 +49,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
   private static final String PATCH = "PATCH";
   private static final String GET = "GET";
   private static final String DELETE = "DELETE";
+  private static final String JSON_MERGE_PATCH = "application/merge-patch+json";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KubernetesCrudDispatcher.class);
   private final Set<WatchEventsListener> watchEventListeners = new CopyOnWriteArraySet<>();
@@ -69,7 +72,7 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
       case PUT:
         return handleReplace(path, request.getBody().readUtf8());
       case PATCH:
-        return handlePatch(path, request.getBody().readUtf8());
+        return handlePatch(path, request.getBody().readUtf8(), request.getHeader("Content-Type"));
       case GET:
         return detectWatchMode(path)? handleWatch(path): handleGet(path);
       case DELETE:
@@ -145,6 +148,19 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
    */
   @Override
   public MockResponse handlePatch(String path, String s) {
+    return handlePatch(path, s, null);
+  }
+
+  /**
+   * Patches the specified object to the in-memory db. JSON merge patches are recognized by their content type,
+   * anything else is treated as a JSON patch.
+   *
+   * @param path path of resource
+   * @param s patch
+   * @param contentType content type of the patch
+   * @return The {@link MockResponse}
+   */
+  public MockResponse handlePatch(String path, String s, String contentType) {
     MockResponse response = new MockResponse();
     String body = fetchResource(path);
     if (body == null) {
@@ -153,7 +169,12 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
       try {
         JsonNode patch = context.getMapper().readTree(s);
         JsonNode source = context.getMapper().readTree(body);
-        JsonNode updated = JsonPatch.apply(patch, source);
+        JsonNode updated;
+        if (contentType != null && contentType.startsWith(JSON_MERGE_PATCH)) {
+          updated = applyMergePatch(source, patch);
+        } else {
+          updated = JsonPatch.apply(patch, source);
+        }
         String updatedAsString = context.getMapper().writeValueAsString(updated);
 
         AttributeSet attributeSet = null;
@@ -192,6 +213,21 @@ public class KubernetesCrudDispatcher extends CrudDispatcher {
     return response;
   }
 
+  private static JsonNode applyMergePatch(JsonNode target, JsonNode patch) {
+    if (!patch.isObject()) {
+      return patch;
+    }
+    ObjectNode result = target != null && target.isObject() ? ((ObjectNode) target).deepCopy() : JsonNodeFactory.instance.objectNode();
+    patch.fields().forEachRemaining(field -> {
+      if (field.getValue().isNull()) {
+        result.remove(field.getKey());
+      } else {
+        result.set(field.getKey(), applyMergePatch(result.get(field.getKey()), field.getValue()));
+      }
+    });
+    return result;
+  }
+
   /**
    * Performs a delete for the corresponding object from the in-memory db.
    *
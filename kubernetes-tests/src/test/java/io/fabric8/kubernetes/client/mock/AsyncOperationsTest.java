@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableRuleMigrationSupport
+public class AsyncOperationsTest {
+
+  @Rule
+  public KubernetesServer server = new KubernetesServer();
+
+  @Test
+  public void testGetAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "1")).once();
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg2").andReturn(404, "").once();
+
+    KubernetesClient client = server.getClient();
+    CompletableFuture<ConfigMap> found = client.configMaps().inNamespace("test").withName("cfg1").getAsync();
+    CompletableFuture<ConfigMap> missing = client.configMaps().inNamespace("test").withName("cfg2").getAsync();
+
+    assertEquals("cfg1", found.get(10, TimeUnit.SECONDS).getMetadata().getName());
+    assertNull(missing.get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testGetAsyncFailure() {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(500, "boom").once();
+
+    CompletableFuture<ConfigMap> future = server.getClient().configMaps().inNamespace("test").withName("cfg1").getAsync();
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertTrue(e.getCause() instanceof KubernetesClientException);
+    assertEquals(500, ((KubernetesClientException) e.getCause()).getCode());
+  }
+
+  @Test
+  public void testListAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps?labelSelector=app%3Dfoo")
+      .andReturn(200, new ConfigMapListBuilder().addToItems(configMap("cfg1", "1"), configMap("cfg2", "2")).build()).once();
+
+    ConfigMapList list = server.getClient().configMaps().inNamespace("test").withLabel("app", "foo").listAsync()
+      .get(10, TimeUnit.SECONDS);
+
+    assertNotNull(list);
+    assertEquals(2, list.getItems().size());
+  }
+
+  @Test
+  public void testCreateAsync() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(201, configMap("cfg1", "1")).once();
+
+    ConfigMap created = server.getClient().configMaps().inNamespace("test").createAsync(configMap("cfg1", null))
+      .get(10, TimeUnit.SECONDS);
+
+    assertEquals("1", created.getMetadata().getResourceVersion());
+  }
+
+  @Test
+  public void testPatchAsync() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "1")).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "2")).once();
+
+    ConfigMap desired = new ConfigMapBuilder(configMap("cfg1", null)).addToData("foo", "bar").build();
+    ConfigMap patched = server.getClient().configMaps().inNamespace("test").withName("cfg1").patchAsync(desired)
+      .get(10, TimeUnit.SECONDS);
+
+    assertEquals("2", patched.getMetadata().getResourceVersion());
+    assertNull(desired.getMetadata().getResourceVersion());
+    server.getMockServer().takeRequest();
+    RecordedRequest patch = server.getMockServer().takeRequest();
+    assertEquals("PATCH", patch.getMethod());
+    assertTrue(patch.getBody().readUtf8().contains("\"/data\""));
+  }
+
+  @Test
+  public void testPatchAsyncRetriesOnConflict() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "1")).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(409, new StatusBuilder()
+      .withCode(409).withReason("Conflict").build()).once();
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "2")).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "3")).once();
+
+    ConfigMap desired = new ConfigMapBuilder(configMap("cfg1", null)).addToData("foo", "bar").build();
+    ConfigMap patched = server.getClient().configMaps().inNamespace("test").withName("cfg1").patchAsync(desired)
+      .get(10, TimeUnit.SECONDS);
+
+    assertEquals("3", patched.getMetadata().getResourceVersion());
+    assertEquals(4, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testServicePatchAsyncKeepsClusterIP() throws Exception {
+    Service current = new ServiceBuilder()
+      .withNewMetadata().withName("svc1").withNamespace("test").withResourceVersion("1").endMetadata()
+      .withNewSpec().withClusterIP("10.0.0.1").addNewPort().withPort(80).endPort().endSpec()
+      .build();
+    server.expect().get().withPath("/api/v1/namespaces/test/services/svc1").andReturn(200, current).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/services/svc1").andReturn(200, current).once();
+
+    Service desired = new ServiceBuilder(current)
+      .editMetadata().withResourceVersion(null).endMetadata()
+      .editSpec().withClusterIP(null).addNewPort().withPort(443).endPort().endSpec()
+      .build();
+    server.getClient().services().inNamespace("test").withName("svc1").patchAsync(desired).get(10, TimeUnit.SECONDS);
+
+    server.getMockServer().takeRequest();
+    String patch = server.getMockServer().takeRequest().getBody().readUtf8();
+    assertTrue(patch.contains("/spec/ports/1"));
+    assertFalse(patch.contains("clusterIP"));
+  }
+
+  @Test
+  public void testDeleteAsyncOfList() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps?labelSelector=app%3Dfoo")
+      .andReturn(200, new ConfigMapListBuilder().addToItems(configMap("cfg1", "1"), configMap("cfg2", "2")).build()).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "1")).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg2").andReturn(200, configMap("cfg2", "2")).once();
+
+    assertTrue(server.getClient().configMaps().inNamespace("test").withLabel("app", "foo").deleteAsync()
+      .get(10, TimeUnit.SECONDS));
+    assertEquals(3, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testDeleteAsync() throws Exception {
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1", "1")).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg2").andReturn(404, "").once();
+
+    KubernetesClient client = server.getClient();
+    assertTrue(client.configMaps().inNamespace("test").withName("cfg1").deleteAsync().get(10, TimeUnit.SECONDS));
+    assertFalse(client.configMaps().inNamespace("test").withName("cfg2").deleteAsync().get(10, TimeUnit.SECONDS));
+  }
+
+  private static ConfigMap configMap(String name, String resourceVersion) {
+    return new ConfigMapBuilder()
+      .withNewMetadata().withName(name).withNamespace("test").withResourceVersion(resourceVersion).endMetadata()
+      .build();
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.BulkResult;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableRuleMigrationSupport
+public class BulkOperationTest {
+
+  @Rule
+  public KubernetesServer server = new KubernetesServer();
+
+  @Test
+  public void testDeleteReportsEveryItem() {
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1")).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg2").andReturn(404, "").once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg3").andReturn(200, configMap("cfg3")).once();
+
+    KubernetesClient client = server.getClient();
+    BulkResult<HasMetadata> result = client.resourceList(list(configMap("cfg1"), configMap("cfg2"), configMap("cfg3")))
+      .bulk().withParallelism(3).delete();
+
+    assertFalse(result.isSuccessful());
+    assertEquals(2, result.getSucceeded().size());
+    assertEquals("cfg1", result.getSucceeded().get(0).getMetadata().getName());
+    assertEquals("cfg3", result.getSucceeded().get(1).getMetadata().getName());
+    assertEquals(1, result.getFailed().size());
+    BulkResult.Failure<HasMetadata> failure = result.getFailed().get(0);
+    assertEquals("cfg2", failure.getItem().getMetadata().getName());
+    assertEquals(404, failure.getException().getCode());
+    assertEquals(3, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testCreateOrReplaceCollectsErrors() {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(409, configMap("cfg1")).once();
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1")).always();
+    server.expect().put().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1")).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(500, "boom").once();
+
+    KubernetesClient client = server.getClient();
+    BulkResult<HasMetadata> result = client.resourceList(list(configMap("cfg1"), configMap("cfg2")))
+      .bulk().withParallelism(1).createOrReplace();
+
+    assertEquals(1, result.getSucceeded().size());
+    assertEquals("cfg1", result.getSucceeded().get(0).getMetadata().getName());
+    assertEquals(1, result.getFailed().size());
+    assertEquals("cfg2", result.getFailed().get(0).getItem().getMetadata().getName());
+    assertEquals(500, result.getFailed().get(0).getException().getCode());
+  }
+
+  @Test
+  public void testCreateLeavesItemsUnchanged() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(201, configMap("cfg1")).once();
+    ConfigMap configMap = new ConfigMapBuilder(configMap("cfg1")).editMetadata().withResourceVersion("5").endMetadata().build();
+    KubernetesList list = list(configMap);
+
+    KubernetesClient client = server.getClient();
+    BulkResult<HasMetadata> result = client.resourceList(list).bulk().create();
+
+    assertTrue(result.isSuccessful());
+    assertEquals("5", list.getItems().get(0).getMetadata().getResourceVersion());
+    assertFalse(server.getMockServer().takeRequest().getBody().readUtf8().contains("resourceVersion"));
+  }
+
+  @Test
+  public void testPhasedCreateHandlesNamespacesFirst() throws Exception {
+    server.expect().post().withPath("/api/v1/namespaces").andReturn(201, namespace()).once();
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps").andReturn(201, configMap("cfg")).times(3);
+
+    KubernetesClient client = server.getClient();
+    BulkResult<HasMetadata> result = client.resourceList(list(configMap("cfg1"), configMap("cfg2"), namespace(), configMap("cfg3")))
+      .bulk().withParallelism(4).phased().create();
+
+    assertTrue(result.isSuccessful());
+    assertEquals(4, result.getSucceeded().size());
+    assertEquals("/api/v1/namespaces", server.getMockServer().takeRequest().getPath());
+  }
+
+  @Test
+  public void testPhasedDeleteHandlesNamespacesLast() throws Exception {
+    server.expect().delete().withPath("/api/v1/namespaces/test").andReturn(200, namespace()).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap("cfg1")).once();
+    server.expect().delete().withPath("/api/v1/namespaces/test/configmaps/cfg2").andReturn(200, configMap("cfg2")).once();
+
+    KubernetesClient client = server.getClient();
+    BulkResult<HasMetadata> result = client.resourceList(list(namespace(), configMap("cfg1"), configMap("cfg2")))
+      .bulk().phased().delete();
+
+    assertTrue(result.isSuccessful());
+    List<String> paths = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      RecordedRequest request = server.getMockServer().takeRequest();
+      paths.add(request.getPath());
+    }
+    assertEquals("/api/v1/namespaces/test", paths.get(2));
+  }
+
+  @Test
+  public void testInvalidParallelism() {
+    KubernetesClient client = server.getClient();
+    assertThrows(IllegalArgumentException.class, () -> client.resourceList(list(configMap("cfg1"))).bulk().withParallelism(0));
+  }
+
+  private static KubernetesList list(HasMetadata... items) {
+    return new KubernetesListBuilder().addToItems(items).build();
+  }
+
+  private static ConfigMap configMap(String name) {
+    return new ConfigMapBuilder()
+      .withNewMetadata().withName(name).withNamespace("test").endMetadata()
+      .addToData("foo", "bar")
+      .build();
+  }
+
+  private static Namespace namespace() {
+    return new NamespaceBuilder().withNewMetadata().withName("test").endMetadata().build();
+  }
+}
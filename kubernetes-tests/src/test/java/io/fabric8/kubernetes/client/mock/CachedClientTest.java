@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.NamespacedKubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.Transforms;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import org.junit.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableRuleMigrationSupport
+class CachedClientTest {
+  @Rule
+  public KubernetesServer server = new KubernetesServer(true, true);
+
+  private SharedInformerFactory factory;
+  private NamespacedKubernetesClient cached;
+
+  @BeforeEach
+  void setUp() {
+    KubernetesClient client = server.getClient();
+    client.pods().inNamespace("test").create(pod("pod1", "frontend"));
+    client.pods().inNamespace("test").create(pod("pod2", "backend"));
+    client.pods().inNamespace("test").create(pod("pod3", null));
+
+    factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, 0L);
+    factory.startAllRegisteredInformers();
+    await().atMost(10, TimeUnit.SECONDS).until(podInformer::hasSynced);
+    cached = factory.cachedClient();
+  }
+
+  @Test
+  void testGetIsServedFromInformer() {
+    int requests = server.getMockServer().getRequestCount();
+
+    Pod pod = cached.pods().inNamespace("test").withName("pod1").get();
+
+    assertNotNull(pod);
+    assertEquals("frontend", pod.getMetadata().getLabels().get("app"));
+    assertNull(cached.pods().inNamespace("test").withName("missing").get());
+    assertEquals(requests, server.getMockServer().getRequestCount());
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testListWithSelectorsIsServedFromInformer() {
+    int requests = server.getMockServer().getRequestCount();
+
+    assertEquals(3, cached.pods().inNamespace("test").list().getItems().size());
+    assertEquals(1, cached.pods().inNamespace("test").withLabel("app", "frontend").list().getItems().size());
+    assertEquals(2, cached.pods().inNamespace("test").withLabel("app").list().getItems().size());
+    assertEquals(1, cached.pods().inNamespace("test").withoutLabel("app").list().getItems().size());
+    assertEquals(2, cached.pods().inNamespace("test").withLabelIn("app", "frontend", "backend").list().getItems().size());
+    assertEquals(2, cached.pods().inNamespace("test").withLabelNotIn("app", "frontend").list().getItems().size());
+    assertEquals(1, cached.pods().inNamespace("test").withField("metadata.name", "pod2").list().getItems().size());
+    assertEquals(requests, server.getMockServer().getRequestCount());
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testFromServerBypassesInformer() {
+    int requests = server.getMockServer().getRequestCount();
+
+    Pod pod = cached.pods().inNamespace("test").withName("pod1").fromServer().get();
+
+    assertNotNull(pod);
+    assertEquals(requests + 1, server.getMockServer().getRequestCount());
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testCachedResourcesAreCopies() {
+    Pod pod = cached.pods().inNamespace("test").withName("pod1").get();
+    pod.getMetadata().getLabels().put("app", "changed");
+
+    assertEquals("frontend", cached.pods().inNamespace("test").withName("pod1").get().getMetadata().getLabels().get("app"));
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testUncoveredReadsGoToServer() {
+    int requests = server.getMockServer().getRequestCount();
+
+    cached.pods().inNamespace("test").withField("spec.nodeName", "node1").list();
+    cached.pods().inNamespace("other").list();
+    cached.services().inNamespace("test").list();
+
+    assertEquals(requests + 3, server.getMockServer().getRequestCount());
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testReadsGoToServerOnceInformerStopped() {
+    factory.stopAllRegisteredInformers();
+    int requests = server.getMockServer().getRequestCount();
+
+    assertTrue(cached.pods().inNamespace("test").withName("pod1").get() != null);
+    assertEquals(requests + 1, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  void testReadsGoToServerOnceInformerStoppedDirectly() {
+    factory.getExistingSharedIndexInformer(Pod.class).stop();
+    int requests = server.getMockServer().getRequestCount();
+
+    assertNotNull(cached.pods().inNamespace("test").withName("pod1").get());
+    assertEquals(requests + 1, server.getMockServer().getRequestCount());
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testTransformedInformerDoesNotServeReads() {
+    factory.stopAllRegisteredInformers();
+    SharedInformerFactory transforming = server.getClient().informers();
+    SharedIndexInformer<Pod> podInformer = transforming.sharedIndexInformerFor(Pod.class, PodList.class, 0L);
+    podInformer.setTransform(Transforms.stripManagedFields());
+    transforming.startAllRegisteredInformers();
+    await().atMost(10, TimeUnit.SECONDS).until(podInformer::hasSynced);
+    int requests = server.getMockServer().getRequestCount();
+
+    assertNotNull(transforming.cachedClient().pods().inNamespace("test").withName("pod1").get());
+    assertEquals(requests + 1, server.getMockServer().getRequestCount());
+    transforming.stopAllRegisteredInformers();
+  }
+
+  private static Pod pod(String name, String app) {
+    PodBuilder pod = new PodBuilder().withNewMetadata().withName(name).withNamespace("test").endMetadata();
+    if (app != null) {
+      pod.editMetadata().addToLabels("app", app).endMetadata();
+    }
+    return pod.build();
+  }
+}
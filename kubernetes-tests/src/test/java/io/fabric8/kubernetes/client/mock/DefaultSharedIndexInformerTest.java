@@ -21,10 +21,13 @@ import io.fabric8.kubernetes.api.model.NamespaceBuilder;
 import io.fabric8.kubernetes.api.model.NamespaceList;
 import io.fabric8.kubernetes.api.model.NamespaceListBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
 import io.fabric8.kubernetes.api.model.WatchEvent;
@@ -43,18 +46,25 @@ import io.fabric8.kubernetes.client.dsl.base.OperationContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.cache.CompactCache;
+import io.fabric8.kubernetes.client.informers.cache.InformerSnapshot;
 import io.fabric8.kubernetes.client.mock.crd.PodSet;
 import io.fabric8.kubernetes.client.mock.crd.PodSetList;
 import io.fabric8.kubernetes.client.mock.crd.PodSetSpec;
 import io.fabric8.kubernetes.client.mock.crd.Star;
 import io.fabric8.kubernetes.client.mock.crd.StarList;
 import io.fabric8.kubernetes.client.mock.crd.StarSpec;
+import io.fabric8.kubernetes.client.utils.PartialObjectMetadataInterceptor;
 import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.Rule;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
@@ -85,7 +95,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -124,13 +134,105 @@ class DefaultSharedIndexInformerTest {
     factory.stopAllRegisteredInformers();
   }
 
+  @Test
+  void testNamespacedPodInformerWithCompactCache() throws InterruptedException {
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, RESYNC_PERIOD);
+    podInformer.setIndexer(new CompactCache<>(Pod.class, true, 0));
+
+    CountDownLatch foundExistingPod = new CountDownLatch(1);
+    podInformer.addEventHandler(
+      new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          foundExistingPod.countDown();
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) { }
+
+        @Override
+        public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    foundExistingPod.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    assertEquals(0L, foundExistingPod.getCount());
+    Pod cached = podInformer.getIndexer().getByKey("test/pod1");
+    assertEquals(endResourceVersion, cached.getMetadata().getResourceVersion());
+
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testNamespacedPodInformerResumesFromSnapshot(@TempDir File directory) throws InterruptedException, IOException {
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    File file = new File(directory, "pods.snapshot");
+    new InformerSnapshot<>(file, Pod.class).save(Collections.singletonList(
+      new PodBuilder().withNewMetadata().withName("pod0").withNamespace("test").withResourceVersion(startResourceVersion).endMetadata().build()),
+      startResourceVersion);
+
+    // no list expected, the watch resumes from the resource version of the snapshot
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion(endResourceVersion).endMetadata().build(), "ADDED"))
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, RESYNC_PERIOD);
+    podInformer.setSnapshot(file, 0L);
+
+    CountDownLatch foundPods = new CountDownLatch(2);
+    podInformer.addEventHandler(
+      new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          foundPods.countDown();
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) { }
+
+        @Override
+        public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    foundPods.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    assertEquals(0L, foundPods.getCount());
+    assertEquals(startResourceVersion, podInformer.getIndexer().getByKey("test/pod0").getMetadata().getResourceVersion());
+    assertEquals(endResourceVersion, podInformer.getIndexer().getByKey("test/pod1").getMetadata().getResourceVersion());
+    await().atMost(1, TimeUnit.SECONDS).until(() -> endResourceVersion.equals(podInformer.lastSyncResourceVersion()));
+
+    factory.stopAllRegisteredInformers();
+
+    InformerSnapshot.Contents<Pod> saved = new InformerSnapshot<>(file, Pod.class).load();
+    assertEquals(endResourceVersion, saved.getResourceVersion());
+    assertEquals(2, saved.getItems().size());
+  }
+
   @Test
   void testAllNamespacedInformer() throws InterruptedException {
     String startResourceVersion = "1000", endResourceVersion = "1001";
 
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -162,6 +264,8 @@ class DefaultSharedIndexInformerTest {
 
     foundExistingPod.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
     assertEquals(0, foundExistingPod.getCount());
+    await().atMost(1, TimeUnit.SECONDS)
+      .until(() -> podInformer.lastSyncResourceVersion().equals(endResourceVersion));
     assertEquals(endResourceVersion, podInformer.lastSyncResourceVersion());
 
     factory.stopAllRegisteredInformers();
@@ -173,7 +277,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -183,7 +287,7 @@ class DefaultSharedIndexInformerTest {
       .done().always();
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(mid2ResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).times(2);
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + mid2ResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + mid2ResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -225,7 +329,7 @@ class DefaultSharedIndexInformerTest {
     String startResourceVersion = "1000", endResourceVersion = "1001";
     server.expect().withPath("/api/v1/namespaces/test/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -256,6 +360,156 @@ class DefaultSharedIndexInformerTest {
     factory.stopAllRegisteredInformers();
   }
 
+  @Test
+  void testPaginatedListInformer() throws InterruptedException {
+    String startResourceVersion = "1000";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).withContinue("next").endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion("999").endMetadata().build()).build()).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1&continue=next")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod2").withResourceVersion("1000").endMetadata().build()).build()).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, RESYNC_PERIOD);
+    podInformer.setListLimit(1L);
+
+    CountDownLatch foundExistingPods = new CountDownLatch(2);
+    podInformer.addEventHandler(
+      new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) {
+          foundExistingPods.countDown();
+        }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) { }
+
+        @Override
+        public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    foundExistingPods.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    assertEquals(0, foundExistingPods.getCount());
+    assertEquals(2, podInformer.getIndexer().list().size());
+
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testPaginatedListInformerFallsBackToFullListOnExpiredContinue() {
+    String startResourceVersion = "1000";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("999").withContinue("next").endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion("999").endMetadata().build()).build()).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods?limit=1&continue=next")
+      .andReturn(HttpURLConnection.HTTP_GONE, outdatedStatus).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion("999").endMetadata().build(),
+          new PodBuilder().withNewMetadata().withNamespace("test").withName("pod2").withResourceVersion("1000").endMetadata().build()).build()).always();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, RESYNC_PERIOD);
+    podInformer.setListLimit(1L);
+    factory.startAllRegisteredInformers();
+
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> startResourceVersion.equals(podInformer.lastSyncResourceVersion()));
+    // the version is recorded once the items are queued, they reach the cache when the queue is processed
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> podInformer.getIndexer().list().size() == 2);
+
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testResyncFromCache() throws InterruptedException {
+    String startResourceVersion = "1000";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata()
+        .withItems(new PodBuilder().withNewMetadata().withNamespace("test").withName("pod1").withResourceVersion(startResourceVersion).endMetadata().build()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, 1000L);
+    podInformer.setResyncFromCache(true);
+
+    CountDownLatch resynced = new CountDownLatch(2);
+    podInformer.addEventHandler(
+      new ResourceEventHandler<Pod>() {
+        @Override
+        public void onAdd(Pod obj) { }
+
+        @Override
+        public void onUpdate(Pod oldObj, Pod newObj) {
+          if (oldObj.getMetadata().getResourceVersion().equals(newObj.getMetadata().getResourceVersion())) {
+            resynced.countDown();
+          }
+        }
+
+        @Override
+        public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    resynced.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    assertEquals(0, resynced.getCount());
+    // the resyncs didn't re-list, only the watch may have reconnected
+    int listRequests = 0;
+    for (int i = server.getMockServer().getRequestCount(); i > 0; i--) {
+      if (!server.getMockServer().takeRequest().getPath().contains("watch=true")) {
+        listRequests++;
+      }
+    }
+    assertEquals(1, listRequests);
+
+    factory.stopAllRegisteredInformers();
+  }
+
+  @Test
+  void testWatchBookmark() {
+    String startResourceVersion = "1000", bookmarkResourceVersion = "1001";
+
+    server.expect().withPath("/api/v1/namespaces/test/pods")
+      .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
+    server.expect().withPath("/api/v1/namespaces/test/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PodBuilder().withNewMetadata().withResourceVersion(bookmarkResourceVersion).endMetadata().build(), "BOOKMARK"))
+      .done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<Pod> podInformer = factory.sharedIndexInformerFor(Pod.class, PodList.class, RESYNC_PERIOD);
+    factory.startAllRegisteredInformers();
+
+    await().atMost(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS)
+      .until(() -> bookmarkResourceVersion.equals(podInformer.lastSyncResourceVersion()));
+    assertEquals(0, podInformer.getIndexer().list().size());
+
+    factory.stopAllRegisteredInformers();
+  }
+
   @Test
   void testEventListeners() throws InterruptedException {
     KubernetesClient client = server.getClient();
@@ -291,7 +545,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces")
       .andReturn(200, new NamespaceListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -336,7 +590,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
       .andReturn(200, new ClusterRoleBindingListBuilder().withMetadata(new ListMetaBuilder().withResourceVersion(startResourceVersion).build()).withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -381,7 +635,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/apis/apps/v1/namespaces/ns1/deployments")
       .andReturn(200, new DeploymentListBuilder().withMetadata(new ListMetaBuilder().withResourceVersion(startResourceVersion).build()).withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/apis/apps/v1/namespaces/ns1/deployments?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/apis/apps/v1/namespaces/ns1/deployments?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -426,7 +680,7 @@ class DefaultSharedIndexInformerTest {
 
     server.expect().withPath("/api/v1/namespaces/ns1/pods")
       .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion(startResourceVersion).endMetadata().withItems(Collections.emptyList()).build()).once();
-    server.expect().withPath("/api/v1/namespaces/ns1/pods?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/api/v1/namespaces/ns1/pods?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -474,7 +728,7 @@ class DefaultSharedIndexInformerTest {
     server.expect().withPath("/apis/demo.k8s.io/v1alpha1/namespaces/ns1/podsets")
       .andReturn(200, podSetList).once();
 
-    server.expect().withPath("/apis/demo.k8s.io/v1alpha1/namespaces/ns1/podsets?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/apis/demo.k8s.io/v1alpha1/namespaces/ns1/podsets?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -525,7 +779,7 @@ class DefaultSharedIndexInformerTest {
     server.expect().withPath("/apis/example.crd.com/v1alpha1/stars")
       .andReturn(200, starList).once();
 
-    server.expect().withPath("/apis/example.crd.com/v1alpha1/stars?resourceVersion=" + startResourceVersion + "&watch=true")
+    server.expect().withPath("/apis/example.crd.com/v1alpha1/stars?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
       .andUpgradeToWebSocket()
       .open()
       .waitFor(WATCH_EVENT_EMIT_TIME)
@@ -567,6 +821,57 @@ class DefaultSharedIndexInformerTest {
     sharedInformerFactory.stopAllRegisteredInformers();
   }
 
+  @Test
+  void testMetadataOnlyInformer() throws InterruptedException {
+    String startResourceVersion = "1000", endResourceVersion = "1001";
+    PartialObjectMetadataList secretList = new PartialObjectMetadataList(
+      new ListMetaBuilder().withResourceVersion(startResourceVersion).build(),
+      Collections.singletonList(new PartialObjectMetadata(new ObjectMetaBuilder().withNamespace("test").withName("secret1").withResourceVersion(startResourceVersion).build())));
+
+    server.expect().withPath("/api/v1/namespaces/test/secrets")
+      .andReturn(200, secretList).once();
+    server.expect().withPath("/api/v1/namespaces/test/secrets?resourceVersion=" + startResourceVersion + "&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket()
+      .open()
+      .waitFor(WATCH_EVENT_EMIT_TIME)
+      .andEmit(new WatchEvent(new PartialObjectMetadata(new ObjectMetaBuilder().withNamespace("test").withName("secret2").withResourceVersion(endResourceVersion).build()), "ADDED"))
+      .waitFor(OUTDATED_WATCH_EVENT_EMIT_TIME)
+      .andEmit(outdatedEvent).done().always();
+
+    KubernetesClient client = server.getClient();
+    SharedInformerFactory factory = client.informers();
+    SharedIndexInformer<PartialObjectMetadata> secretInformer = factory.sharedIndexInformerForMetadata(Secret.class, RESYNC_PERIOD);
+
+    CountDownLatch foundSecrets = new CountDownLatch(2);
+    secretInformer.addEventHandler(
+      new ResourceEventHandler<PartialObjectMetadata>() {
+        @Override
+        public void onAdd(PartialObjectMetadata obj) {
+          foundSecrets.countDown();
+        }
+
+        @Override
+        public void onUpdate(PartialObjectMetadata oldObj, PartialObjectMetadata newObj) { }
+
+        @Override
+        public void onDelete(PartialObjectMetadata oldObj, boolean deletedFinalStateUnknown) { }
+      });
+    factory.startAllRegisteredInformers();
+
+    foundSecrets.await(LATCH_AWAIT_PERIOD_IN_SECONDS, TimeUnit.SECONDS);
+    assertEquals(0L, foundSecrets.getCount());
+    assertEquals(2, secretInformer.getIndexer().list().size());
+    int requests = server.getMockServer().getRequestCount();
+    for (int i = 0; i < requests; i++) {
+      RecordedRequest request = server.getMockServer().takeRequest();
+      String expectedAccept = request.getPath().contains("watch=true") ?
+        PartialObjectMetadataInterceptor.PARTIAL_OBJECT_METADATA : PartialObjectMetadataInterceptor.PARTIAL_OBJECT_METADATA_LIST;
+      assertEquals(expectedAccept, request.getHeader("Accept"));
+    }
+
+    factory.stopAllRegisteredInformers();
+  }
+
   private Star getStar(String name, String resourceVersion) {
     StarSpec starSpec = new StarSpec();
     starSpec.setType("G");
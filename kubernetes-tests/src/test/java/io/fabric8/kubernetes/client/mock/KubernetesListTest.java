@@ -16,6 +16,7 @@
 
 package io.fabric8.kubernetes.client.mock;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -33,6 +34,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
 
 import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -85,6 +89,29 @@ public class KubernetesListTest {
     assertEquals(2, result.getItems().size());
   }
 
+  @Test
+  public void testLoadMultipleDocuments() {
+    KubernetesClient client = server.getClient();
+    KubernetesList result = client.lists().inNamespace("test")
+      .load(KubernetesListTest.class.getResourceAsStream("/multiple-document-template.yml")).get();
+
+    assertNotNull(result);
+    assertEquals(6, result.getItems().size());
+  }
+
+  @Test
+  public void testLoadItemsLazily() {
+    KubernetesClient client = server.getClient();
+    List<String> namespaces;
+    try (Stream<HasMetadata> items = client.lists().inNamespace("test")
+      .loadItems(KubernetesListTest.class.getResourceAsStream("/multiple-document-template.yml"))) {
+      namespaces = items.map(item -> item.getMetadata().getNamespace()).collect(Collectors.toList());
+    }
+
+    assertEquals(6, namespaces.size());
+    assertTrue(namespaces.stream().allMatch("test"::equals));
+  }
+
   @Test
   public void testDelete() {
    server.expect().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod1).always();
@@ -16,18 +16,26 @@
 
 package io.fabric8.kubernetes.client.mock;
 
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.networking.NetworkPolicy;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.ParameterNamespaceListVisitFromServerGetDeleteRecreateWaitApplicable;
 import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
 import org.junit.Rule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnableRuleMigrationSupport
 public class LoadTest {
@@ -86,6 +94,30 @@ public class LoadTest {
     assertEquals("eap-app", deploymentResource.getMetadata().getName());
   }
 
+  @Test
+  void testLoadReadsTheInputStreamLazily() {
+    server.expect().post().withPath("/api/v1/namespaces/test/configmaps")
+      .andReturn(201, new ConfigMapBuilder().withNewMetadata().withName("cfg").endMetadata().build()).times(2);
+    KubernetesClient client = server.getClient();
+    String yaml = "apiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: ${NAME}-1\n---\n"
+      + "apiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: ${NAME}-2\n";
+    AtomicInteger reads = new AtomicInteger();
+    InputStream is = new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        reads.incrementAndGet();
+        return super.read(b, off, len);
+      }
+    };
+
+    ParameterNamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata, Boolean> loaded = client.load(is);
+    assertEquals(0, reads.get());
+    List<HasMetadata> result = loaded.withParameters(Collections.singletonMap("NAME", "cfg")).inNamespace("test").createOrReplace();
+
+    assertEquals(2, result.size());
+    assertTrue(reads.get() > 0);
+  }
+
   @Test
   void testNetworkPolicyLoad() {
     KubernetesClient client = server.getClient();
@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@EnableRuleMigrationSupport
+public class MergePatchTest {
+
+  @Rule
+  public KubernetesServer server = new KubernetesServer();
+
+  @Rule
+  public KubernetesServer crudServer = new KubernetesServer(true, true);
+
+  @Test
+  public void testEditSendsOnlyTheChanges() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap()).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap()).once();
+
+    KubernetesClient client = server.getClient();
+    client.configMaps().inNamespace("test").withName("cfg1").edit()
+      .editMetadata().addToLabels("app", "foo").endMetadata()
+      .addToData("one", "changed")
+      .done();
+
+    assertEquals(2, server.getMockServer().getRequestCount());
+    server.getMockServer().takeRequest();
+    RecordedRequest patch = server.getMockServer().takeRequest();
+    assertEquals("application/merge-patch+json; charset=utf-8", patch.getHeader("Content-Type"));
+    assertJson("{\"data\":{\"one\":\"changed\"},\"metadata\":{\"labels\":{\"app\":\"foo\"}}}", patch.getBody().readUtf8());
+  }
+
+  @Test
+  public void testEditOfListElementIsBoundToResourceVersion() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod()).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod()).once();
+
+    KubernetesClient client = server.getClient();
+    client.pods().inNamespace("test").withName("pod1").edit()
+      .editSpec().editLastContainer().withImage("sidecar:2").endContainer().endSpec()
+      .done();
+
+    server.getMockServer().takeRequest();
+    RecordedRequest patch = server.getMockServer().takeRequest();
+    assertJson("{\"metadata\":{\"resourceVersion\":\"7\"},\"spec\":{\"containers\":["
+        + "{\"image\":\"app:1\",\"name\":\"app\"},{\"image\":\"sidecar:2\",\"name\":\"sidecar\"}]}}",
+      patch.getBody().readUtf8());
+  }
+
+  @Test
+  public void testEditOfListElementIsRetriedOnConflict() throws Exception {
+    Pod changedMeanwhile = new PodBuilder(pod())
+      .editMetadata().withResourceVersion("8").addToLabels("app", "other").endMetadata()
+      .build();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod()).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(HttpURLConnection.HTTP_CONFLICT,
+      new StatusBuilder().withCode(HttpURLConnection.HTTP_CONFLICT).build()).once();
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, changedMeanwhile).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, changedMeanwhile).once();
+
+    KubernetesClient client = server.getClient();
+    client.pods().inNamespace("test").withName("pod1").edit()
+      .editSpec().editLastContainer().withImage("sidecar:2").endContainer().endSpec()
+      .done();
+
+    assertEquals(4, server.getMockServer().getRequestCount());
+    server.getMockServer().takeRequest();
+    server.getMockServer().takeRequest();
+    server.getMockServer().takeRequest();
+    // the concurrent label change is neither sent back nor reverted
+    assertJson("{\"metadata\":{\"resourceVersion\":\"8\"},\"spec\":{\"containers\":["
+        + "{\"image\":\"app:1\",\"name\":\"app\"},{\"image\":\"sidecar:2\",\"name\":\"sidecar\"}]}}",
+      server.getMockServer().takeRequest().getBody().readUtf8());
+  }
+
+  @Test
+  public void testEditWithoutArrayChangesIsNotBoundToResourceVersion() throws Exception {
+    server.expect().get().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod()).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/pods/pod1").andReturn(200, pod()).once();
+
+    KubernetesClient client = server.getClient();
+    client.pods().inNamespace("test").withName("pod1").edit()
+      .editMetadata().addToLabels("app", "foo").endMetadata()
+      .done();
+
+    server.getMockServer().takeRequest();
+    assertJson("{\"metadata\":{\"labels\":{\"app\":\"foo\"}}}", server.getMockServer().takeRequest().getBody().readUtf8());
+  }
+
+  @Test
+  public void testEditWithoutChangesSendsNothing() {
+    server.expect().get().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap()).once();
+
+    KubernetesClient client = server.getClient();
+    ConfigMap result = client.configMaps().inNamespace("test").withName("cfg1").edit().done();
+
+    assertEquals("1", result.getData().get("one"));
+    assertEquals(1, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testBlindMergePatch() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1").andReturn(200, configMap()).times(2);
+
+    KubernetesClient client = server.getClient();
+    client.configMaps().inNamespace("test").withName("cfg1").mergePatch("{\"data\":{\"two\":null}}");
+    client.configMaps().inNamespace("test").withName("cfg1").mergePatch(new ConfigMapBuilder()
+      .withNewMetadata().withName("cfg1").endMetadata()
+      .addToData("one", "changed")
+      .build());
+
+    assertEquals(2, server.getMockServer().getRequestCount());
+    assertJson("{\"data\":{\"two\":null}}", server.getMockServer().takeRequest().getBody().readUtf8());
+    assertJson("{\"apiVersion\":\"v1\",\"data\":{\"one\":\"changed\"},\"kind\":\"ConfigMap\",\"metadata\":{\"name\":\"cfg1\"}}",
+      server.getMockServer().takeRequest().getBody().readUtf8());
+  }
+
+  @Test
+  public void testEditRemovesFieldsInCrudMode() {
+    KubernetesClient client = crudServer.getClient();
+    client.configMaps().inNamespace("test").create(configMap());
+
+    ConfigMap edited = client.configMaps().inNamespace("test").withName("cfg1").edit()
+      .removeFromData("two")
+      .addToData("three", "3")
+      .done();
+
+    assertEquals("1", edited.getData().get("one"));
+    assertFalse(edited.getData().containsKey("two"));
+    assertEquals("3", edited.getData().get("three"));
+    assertEquals(Collections.singletonMap("app", "cfg"), client.configMaps().inNamespace("test").withName("cfg1").get().getMetadata().getLabels());
+  }
+
+  private static void assertJson(String expected, String actual) throws IOException {
+    assertEquals(Serialization.jsonMapper().readTree(expected), Serialization.jsonMapper().readTree(actual));
+  }
+
+  private static Pod pod() {
+    return new PodBuilder()
+      .withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("7").endMetadata()
+      .withNewSpec()
+      .addNewContainer().withName("app").withImage("app:1").endContainer()
+      .addNewContainer().withName("sidecar").withImage("sidecar:1").endContainer()
+      .endSpec()
+      .build();
+  }
+
+  private static ConfigMap configMap() {
+    return new ConfigMapBuilder()
+      .withNewMetadata().withName("cfg1").withNamespace("test").addToLabels("app", "cfg").endMetadata()
+      .addToData("one", "1")
+      .addToData("two", "2")
+      .build();
+  }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.mock;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.Rule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableRuleMigrationSupport
+public class ServerSideApplyTest {
+
+  @Rule
+  public KubernetesServer server = new KubernetesServer();
+
+  @Test
+  public void testServerSideApplyIsASingleRequest() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8")
+      .andReturn(200, configMap("cfg1", "2")).once();
+
+    KubernetesClient client = server.getClient();
+    ConfigMap applied = client.resource(configMap("cfg1", null)).serverSideApply("fabric8");
+
+    assertEquals("2", applied.getMetadata().getResourceVersion());
+    assertEquals(1, server.getMockServer().getRequestCount());
+    RecordedRequest request = server.getLastRequest();
+    assertEquals("PATCH", request.getMethod());
+    assertEquals("application/apply-patch+yaml; charset=utf-8", request.getHeader("Content-Type"));
+    ConfigMap sent = Serialization.unmarshal(request.getBody().readUtf8(), ConfigMap.class);
+    assertEquals("cfg1", sent.getMetadata().getName());
+    assertEquals("bar", sent.getData().get("foo"));
+  }
+
+  @Test
+  public void testServerSideApplyWithForce() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8&force=true")
+      .andReturn(200, configMap("cfg1", "3")).once();
+
+    KubernetesClient client = server.getClient();
+    ConfigMap applied = client.configMaps().inNamespace("test")
+      .load(new ByteArrayInputStream(Serialization.asYaml(configMap("cfg1", null)).getBytes(StandardCharsets.UTF_8)))
+      .serverSideApply("fabric8", true);
+
+    assertEquals("3", applied.getMetadata().getResourceVersion());
+    assertEquals(1, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testServerSideApplyDropsManagedFieldsAndResourceVersion() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8")
+      .andReturn(200, configMap("cfg1", "6")).once();
+    ConfigMap fromServer = new ConfigMapBuilder(configMap("cfg1", "5"))
+      .editMetadata().addNewManagedField().withManager("kubectl").withOperation("Update").endManagedField().endMetadata()
+      .build();
+
+    server.getClient().resource(fromServer).serverSideApply("fabric8");
+
+    String sent = server.getLastRequest().getBody().readUtf8();
+    assertFalse(sent.contains("managedFields"));
+    assertFalse(sent.contains("resourceVersion"));
+    assertEquals("5", fromServer.getMetadata().getResourceVersion());
+    assertEquals(1, fromServer.getMetadata().getManagedFields().size());
+  }
+
+  @Test
+  public void testServerSideApplyWithResourceVersionCheck() throws Exception {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8")
+      .andReturn(200, configMap("cfg1", "6")).once();
+
+    server.getClient().configMaps().inNamespace("test")
+      .load(new ByteArrayInputStream(Serialization.asYaml(configMap("cfg1", "5")).getBytes(StandardCharsets.UTF_8)))
+      .serverSideApply("fabric8", false, true);
+
+    ConfigMap sent = Serialization.unmarshal(server.getLastRequest().getBody().readUtf8(), ConfigMap.class);
+    assertEquals("5", sent.getMetadata().getResourceVersion());
+  }
+
+  @Test
+  public void testServerSideApplyResourceList() {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8")
+      .andReturn(201, configMap("cfg1", "1")).once();
+    server.expect().patch().withPath("/api/v1/namespaces/test/services/svc1?fieldManager=fabric8")
+      .andReturn(200, service("svc1")).once();
+
+    KubernetesClient client = server.getClient();
+    List<HasMetadata> applied = client.resourceList(new KubernetesListBuilder()
+      .addToItems(configMap("cfg1", null), service("svc1")).build()).serverSideApply("fabric8");
+
+    assertEquals(2, applied.size());
+    assertTrue(applied.stream().anyMatch(item -> item instanceof ConfigMap && "cfg1".equals(item.getMetadata().getName())));
+    assertTrue(applied.stream().anyMatch(item -> item instanceof Service && "svc1".equals(item.getMetadata().getName())));
+    assertEquals(2, server.getMockServer().getRequestCount());
+  }
+
+  @Test
+  public void testServerSideApplyConflict() {
+    server.expect().patch().withPath("/api/v1/namespaces/test/configmaps/cfg1?fieldManager=fabric8")
+      .andReturn(409, "conflict").once();
+
+    KubernetesClient client = server.getClient();
+    KubernetesClientException e = assertThrows(KubernetesClientException.class,
+      () -> client.resource(configMap("cfg1", null)).serverSideApply("fabric8"));
+    assertEquals(409, e.getCode());
+  }
+
+  @Test
+  public void testServerSideApplyRequiresFieldManager() {
+    KubernetesClient client = server.getClient();
+    assertThrows(IllegalArgumentException.class, () -> client.resource(configMap("cfg1", null)).serverSideApply(null));
+    assertEquals(0, server.getMockServer().getRequestCount());
+  }
+
+  private static ConfigMap configMap(String name, String resourceVersion) {
+    return new ConfigMapBuilder()
+      .withNewMetadata().withName(name).withNamespace("test").withResourceVersion(resourceVersion).endMetadata()
+      .addToData("foo", "bar")
+      .build();
+  }
+
+  private static Service service(String name) {
+    return new ServiceBuilder()
+      .withNewMetadata().withName(name).withNamespace("test").endMetadata()
+      .withNewSpec().addNewPort().withPort(80).endPort().endSpec()
+      .build();
+  }
+}
@@ -265,6 +265,45 @@ class WatchTest {
     watch.close();
   }
 
+  @Test
+  void testReconnectsWithBookmarkResourceVersion() throws InterruptedException {
+    final CountDownLatch bookmarkLatch = new CountDownLatch(1);
+    final CountDownLatch eventLatch = new CountDownLatch(1);
+
+    final Pod bookmark = new PodBuilder().withNewMetadata().withResourceVersion("20").endMetadata().build();
+
+    server.expect()
+      .withPath("/api/v1/namespaces/test/pods?resourceVersion=1&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket().open()
+      .waitFor(EVENT_WAIT_PERIOD_MS).andEmit(new WatchEvent(bookmark, "BOOKMARK"))
+      .done().once();
+
+    server.expect()
+      .withPath("/api/v1/namespaces/test/pods?resourceVersion=20&allowWatchBookmarks=true&watch=true")
+      .andUpgradeToWebSocket().open()
+      .waitFor(EVENT_WAIT_PERIOD_MS).andEmit(new WatchEvent(pod1, "MODIFIED"))
+      .done().once();
+
+    Watch watch = client.pods().watch(new ListOptionsBuilder().withResourceVersion("1").withAllowWatchBookmarks(true).build(), new Watcher<Pod>() {
+      @Override
+      public void eventReceived(Action action, Pod resource) {
+        if (action == Action.BOOKMARK) {
+          bookmarkLatch.countDown();
+        } else if (action == Action.MODIFIED) {
+          eventLatch.countDown();
+        }
+      }
+
+      @Override
+      public void onClose(KubernetesClientException cause) {
+      }
+    });
+
+    assertTrue(bookmarkLatch.await(10, TimeUnit.SECONDS));
+    assertTrue(eventLatch.await(10, TimeUnit.SECONDS));
+    watch.close();
+  }
+
   private static WatchEvent outdatedEvent() {
     return new WatchEventBuilder().withStatusObject(
       new StatusBuilder().withCode(HttpURLConnection.HTTP_GONE)
@@ -24,6 +24,8 @@ import org.junit.Rule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @EnableRuleMigrationSupport
@@ -62,6 +64,27 @@ public class OpenshiftRoleBindingTest {
     assertEquals(expectedRoleBinding, new ObjectMapper().readerFor(RoleBinding.class).readValue(request.getBody().readByteArray()));
   }
 
+  @Test
+  public void testCreateAsyncWithOnlySubjects() throws Exception {
+    server.expect().post().withPath("/apis/authorization.openshift.io/v1/namespaces/test/rolebindings").andReturn(201, expectedRoleBinding).once();
+
+    NamespacedOpenShiftClient client = server.getOpenshiftClient();
+
+    RoleBinding response = client.roleBindings().createAsync(
+      new RoleBindingBuilder()
+        .withNewMetadata().endMetadata()
+        .addNewSubject().withKind("User").withName("testuser1").endSubject()
+        .addNewSubject().withKind("User").withName("testuser2").endSubject()
+        .addNewSubject().withKind("ServiceAccount").withName("svcacct").endSubject()
+        .addNewSubject().withKind("Group").withName("testgroup").endSubject()
+      .build()
+    ).get(10, TimeUnit.SECONDS);
+    assertEquals(expectedRoleBinding, response);
+
+    RecordedRequest request = server.getLastRequest();
+    assertEquals(expectedRoleBinding, new ObjectMapper().readerFor(RoleBinding.class).readValue(request.getBody().inputStream()));
+  }
+
   @Test
   public void testCreateWithUserNamesAndGroupsAndNoSubjects() throws Exception {
     server.expect().post().withPath("/apis/authorization.openshift.io/v1/namespaces/test/rolebindings").andReturn(201, expectedRoleBinding).once();
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 
 import io.fabric8.kubernetes.api.model.APIGroupListBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesList;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
@@ -238,6 +240,23 @@ public class TemplateTest {
     assertListIsServiceWithPort8080(list);
   }
 
+  @Test
+  void testProcessLocallyResolvesParametersInValues() {
+    server.expect().withPath("/apis/template.openshift.io/v1/namespaces/test/templates/tmpl1").andReturn(200, new TemplateBuilder()
+      .withNewMetadata().withName("tmpl1").endMetadata()
+      .addToObjects(new ConfigMapBuilder().withNewMetadata().withName("${NAME}").endMetadata().addToData("url", "${URL}").build())
+      .withParameters(new ParameterBuilder().withName("NAME").build(),
+        new ParameterBuilder().withName("URL").withValue("http://${NAME}:8080").build())
+      .build()).once();
+
+    OpenShiftClient client = server.getOpenshiftClient();
+    KubernetesList list = client.templates().withName("tmpl1").processLocally(singletonMap("NAME", "backend"));
+
+    ConfigMap configMap = (ConfigMap) list.getItems().get(0);
+    assertEquals("backend", configMap.getMetadata().getName());
+    assertEquals("http://backend:8080", configMap.getData().get("url"));
+  }
+
   @Test
   void testNullParameterMapValueShouldNotThrowNullPointerException() {
     server.expect().withPath("/apis/template.openshift.io/v1/namespaces/test/templates/tmpl1").andReturn(200, new TemplateBuilder()
@@ -60,6 +60,8 @@ import io.fabric8.kubernetes.client.extended.run.RunConfigBuilder;
 import io.fabric8.kubernetes.client.extended.run.RunOperations;
 import io.fabric8.kubernetes.client.utils.BackwardsCompatibilityInterceptor;
 import io.fabric8.kubernetes.client.utils.ImpersonatorInterceptor;
+import io.fabric8.kubernetes.client.utils.RateLimitInterceptor;
+import io.fabric8.kubernetes.client.utils.RateLimiter;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -244,11 +246,16 @@ public class DefaultOpenShiftClient extends BaseClient implements NamespacedOpen
       httpClient.newBuilder().authenticator(Authenticator.NONE) :
       new OkHttpClient.Builder().authenticator(Authenticator.NONE);
 
+    // keeps throttling with the same limiter, so the clients sharing it are throttled together
+    RateLimiter rateLimiter = httpClient != null ? RateLimitInterceptor.getRateLimiter(httpClient) : null;
     builder.interceptors().clear();
-    return builder.addInterceptor(new OpenShiftOAuthInterceptor(httpClient, OpenShiftConfig.wrap(config)))
+    builder.addInterceptor(new OpenShiftOAuthInterceptor(httpClient, OpenShiftConfig.wrap(config)))
       .addInterceptor(new ImpersonatorInterceptor(config))
-      .addInterceptor(new BackwardsCompatibilityInterceptor())
-      .build();
+      .addInterceptor(new BackwardsCompatibilityInterceptor());
+    if (rateLimiter != null) {
+      builder.addInterceptor(new RateLimitInterceptor(rateLimiter));
+    }
+    return builder.build();
   }
 
   @Override
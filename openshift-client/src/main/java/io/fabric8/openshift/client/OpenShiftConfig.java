@@ -113,6 +113,8 @@ public class OpenShiftConfig extends Config {
       false,
       false
       );
+    setQps(kubernetesConfig.getQps());
+    setBurst(kubernetesConfig.getBurst());
   }
 
   public static OpenShiftConfig wrap(Config config) {
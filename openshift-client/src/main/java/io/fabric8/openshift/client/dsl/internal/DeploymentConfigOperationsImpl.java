@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -99,6 +100,14 @@ public class DeploymentConfigOperationsImpl extends OpenShiftOperation<Deploymen
     return super.patch(item);
   }
 
+  @Override
+  public CompletableFuture<DeploymentConfig> patchAsync(DeploymentConfig item) {
+    if (isCascading()) {
+      return cascading(false).patchAsync(item);
+    }
+    return super.patchAsync(item);
+  }
+
   @Override
   public DeploymentConfig deployLatest() {
     return deployLatest(false);
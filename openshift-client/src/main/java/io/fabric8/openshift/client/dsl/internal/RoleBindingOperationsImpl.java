@@ -29,6 +29,7 @@ import okhttp3.OkHttpClient;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static io.fabric8.openshift.client.OpenShiftAPIGroups.AUTHORIZATION;
@@ -68,11 +69,26 @@ public class RoleBindingOperationsImpl extends OpenShiftOperation<RoleBinding, R
     return super.patch(enriched);
   }
 
+  @Override
+  public CompletableFuture<RoleBinding> patchAsync(RoleBinding item) {
+    return super.patchAsync(enrichRoleBinding(item));
+  }
+
+  @Override
+  protected RoleBinding handleEditPatch(RoleBinding current, RoleBinding updated) throws ExecutionException, InterruptedException, IOException {
+    return super.handleEditPatch(current, enrichRoleBinding(updated));
+  }
+
   @Override
   protected RoleBinding handleCreate(RoleBinding resource) throws ExecutionException, InterruptedException, IOException {
     return super.handleCreate(enrichRoleBinding(resource));
   }
 
+  @Override
+  protected CompletableFuture<RoleBinding> handleCreateAsync(RoleBinding resource) throws IOException {
+    return super.handleCreateAsync(enrichRoleBinding(resource));
+  }
+
   private RoleBinding enrichRoleBinding(RoleBinding binding) {
     RoleBindingBuilder builder = new RoleBindingBuilder(binding);
 
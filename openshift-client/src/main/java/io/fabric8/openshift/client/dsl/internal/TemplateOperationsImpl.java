@@ -24,6 +24,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.base.OperationContext;
+import io.fabric8.kubernetes.client.utils.ReplaceValueStream;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -42,6 +43,7 @@ import okhttp3.RequestBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -186,35 +188,39 @@ public class TemplateOperationsImpl
       .withItems(t != null && t.getObjects() != null ? t.getObjects() : Collections.<HasMetadata>emptyList())
       .build();
 
-    try {
-      String json = JSON_MAPPER.writeValueAsString(list);
-      if (parameters != null && !parameters.isEmpty()) {
-        // lets make a few passes in case there's expressions in values
-        for (int i = 0; i < 5; i++) {
-          for (Parameter parameter : parameters) {
-            String parameterName = parameter.getName();
-            String parameterValue;
-            if (valuesMap.containsKey(parameterName)) {
-              parameterValue = valuesMap.get(parameterName);
-            } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
-              parameterValue = parameter.getValue();
-            } else if (EXPRESSION.equals(parameter.getGenerate())) {
-              Generex generex = new Generex(parameter.getFrom());
-              parameterValue = generex.random();
-            } else if (parameter.getRequired() == null || !parameter.getRequired()) {
-              parameterValue = "";
-            } else {
-              throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
-            }
-            if (parameterValue == null) {
-              logger.debug("Parameter {} has a null value", parameterName);
-              parameterValue = "";
-            }
-            json = Utils.interpolateString(json, Collections.singletonMap(parameterName, parameterValue));
-          }
-        }
+    if (parameters == null || parameters.isEmpty()) {
+      return list;
+    }
+    Map<String, String> parameterValues = new HashMap<>();
+    for (Parameter parameter : parameters) {
+      String parameterName = parameter.getName();
+      String parameterValue;
+      if (valuesMap.containsKey(parameterName)) {
+        parameterValue = valuesMap.get(parameterName);
+      } else if (Utils.isNotNullOrEmpty(parameter.getValue())) {
+        parameterValue = parameter.getValue();
+      } else if (EXPRESSION.equals(parameter.getGenerate())) {
+        Generex generex = new Generex(parameter.getFrom());
+        parameterValue = generex.random();
+      } else if (parameter.getRequired() == null || !parameter.getRequired()) {
+        parameterValue = "";
+      } else {
+        throw new IllegalArgumentException("No value available for parameter name: " + parameterName);
       }
+      if (parameterValue == null) {
+        logger.debug("Parameter {} has a null value", parameterName);
+        parameterValue = "";
+      }
+      parameterValues.put(parameterName, parameterValue);
+    }
+    // lets make a few passes over the values in case there's expressions in them, the objects then take a single one
+    for (int i = 0; i < 4; i++) {
+      for (Map.Entry<String, String> entry : parameterValues.entrySet()) {
+        entry.setValue(Utils.interpolateString(entry.getValue(), parameterValues));
+      }
+    }
 
+    try (InputStream json = ReplaceValueStream.replaceValues(new ByteArrayInputStream(JSON_MAPPER.writeValueAsBytes(list)), parameterValues)) {
       list = JSON_MAPPER.readValue(json, KubernetesList.class);
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(e);
@@ -56,6 +56,11 @@ public class ProjectRequestHandler implements ResourceHandler<ProjectRequest, Pr
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public ProjectRequest serverSideApply(OkHttpClient client, Config config, String namespace, ProjectRequest item, String fieldManager, boolean force) {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public ProjectRequest reload(OkHttpClient client, Config config, String namespace, ProjectRequest item) {
     throw new UnsupportedOperationException();
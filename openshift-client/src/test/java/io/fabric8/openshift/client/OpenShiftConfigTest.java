@@ -17,8 +17,12 @@ package io.fabric8.openshift.client;
 
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.RateLimitInterceptor;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import okhttp3.OkHttpClient;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +31,8 @@ import org.junit.jupiter.api.Test;
 import java.net.MalformedURLException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 class OpenShiftConfigTest {
 
@@ -80,6 +86,23 @@ class OpenShiftConfigTest {
     assertEquals("https://2.2.2.2/oapi/" + version + "/", config.getOpenShiftUrl());
   }
 
+  @Test
+  void testThrottlingIsKeptByOpenShiftClients() {
+    System.setProperty(OpenShiftConfig.OPENSHIFT_URL_SYSTEM_PROPERTY, "https://1.1.1.1/xxx");
+    Config throttled = new ConfigBuilder(kubernetesConfig).withQps(5f).withBurst(3).build();
+
+    try (KubernetesClient client = new DefaultKubernetesClient(throttled);
+         OpenShiftClient adapted = client.adapt(OpenShiftClient.class);
+         DefaultOpenShiftClient created = new DefaultOpenShiftClient(throttled)) {
+      assertEquals(5f, adapted.getConfiguration().getQps(), 0f);
+      assertEquals(3, adapted.getConfiguration().getBurst());
+      assertSame(RateLimitInterceptor.getRateLimiter(client.adapt(OkHttpClient.class)),
+        RateLimitInterceptor.getRateLimiter(adapted.adapt(OkHttpClient.class)));
+      assertEquals(5f, created.getConfiguration().getQps(), 0f);
+      assertNotNull(RateLimitInterceptor.getRateLimiter(created.adapt(OkHttpClient.class)));
+    }
+  }
+
   @Test
   void shouldInstantiateClientUsingSerializeDeserialize() throws MalformedURLException {
     DefaultOpenShiftClient original = new DefaultOpenShiftClient();